@@ -0,0 +1,136 @@
+package org.folio.notes.benchmark;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.experimental.UtilityClass;
+import org.folio.notes.config.ApplicationConfig;
+import org.folio.notes.config.properties.SafelistProperties;
+import org.folio.notes.domain.dto.User;
+import org.folio.notes.domain.entity.LinkEntity;
+import org.folio.notes.domain.entity.NoteEntity;
+import org.folio.notes.domain.entity.NoteTypeEntity;
+import org.folio.notes.domain.entity.UserSnapshot;
+import org.folio.notes.domain.mapper.LinkMapperImpl;
+import org.folio.notes.domain.mapper.MetadataMapperImpl;
+import org.folio.notes.domain.mapper.NoteCollectionMapperImpl;
+import org.folio.notes.domain.mapper.NotesMapperImpl;
+import org.folio.notes.service.UsersService;
+import org.jsoup.safety.Safelist;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Test data shared by the benchmarks, it resembles the default configuration and typical notes.
+ */
+@UtilityClass
+public class BenchmarkData {
+
+  public static final int PAGE_SIZE = 1000;
+
+  private static final String PLAIN_TEXT = "Patron called about the overdue items and promised to return them. ";
+  private static final String ESCAPED_TEXT = "Fine > 5 USD, paid\u00A0in full. ";
+  private static final String CLEAN_HTML = "<p>Patron called about the <strong>overdue</strong> items.</p>"
+                                           + "<ul><li>first item</li><li>second item</li></ul>"
+                                           + "<p><a href=\"https://example.org\" target=\"_blank\">details</a></p>";
+  private static final String DIRTY_HTML = "<p onclick=\"alert(1)\">Patron called about the <b>overdue</b> items."
+                                           + "<script>alert(2)</script><img src=\"x\"></p>";
+
+  /**
+   * Safelist built from the default {@code folio.notes.content.allowed} configuration.
+   */
+  public static Safelist safelist() {
+    var properties = new SafelistProperties();
+    properties.setTags(new String[] {"p", "strong", "em", "a", "u", "ol", "ul", "li", "h1", "h2", "h3", "br"});
+    properties.setAttributes(Map.of("all", new String[] {"class"}, "a", new String[] {"href", "rel", "target"}));
+    return new ApplicationConfig().safelist(properties);
+  }
+
+  /**
+   * Returns note content of the given kind: {@code plain} or {@code escaped} text, {@code clean} or {@code dirty} HTML, and about the given
+   * length.
+   */
+  public static String content(String kind, int length) {
+    var fragment = switch (kind) {
+      case "plain" -> PLAIN_TEXT;
+      case "escaped" -> ESCAPED_TEXT;
+      case "clean" -> CLEAN_HTML;
+      case "dirty" -> DIRTY_HTML;
+      default -> throw new IllegalArgumentException("Unknown content kind: " + kind);
+    };
+    return fragment.repeat(Math.max(1, length / fragment.length()));
+  }
+
+  /**
+   * Returns a page of notes as they are loaded from the database, with links and user snapshots when requested.
+   */
+  public static List<NoteEntity> notePage(boolean withUserSnapshots) {
+    var type = new NoteTypeEntity();
+    type.setId(UUID.randomUUID());
+    type.setName("General note");
+    var link = new LinkEntity();
+    link.setId(UUID.randomUUID());
+    link.setObjectId(UUID.randomUUID().toString());
+    link.setObjectType("package");
+    var userId = UUID.randomUUID();
+    var snapshot = withUserSnapshots ? new UserSnapshot("librarian", "Jane", "Doe", null) : null;
+
+    var notes = new ArrayList<NoteEntity>(PAGE_SIZE);
+    for (int i = 0; i < PAGE_SIZE; i++) {
+      var note = new NoteEntity();
+      note.setId(UUID.randomUUID());
+      note.setTitle("Note " + i);
+      note.setContent(CLEAN_HTML);
+      note.setDomain("eholdings");
+      note.setType(type);
+      note.setLinks(Set.of(link));
+      note.setCreatedBy(userId);
+      note.setUpdatedBy(userId);
+      note.setCreatedDate(Timestamp.from(Instant.now()));
+      note.setUpdatedDate(Timestamp.from(Instant.now()));
+      note.setCreatedBySnapshot(snapshot);
+      note.setUpdatedBySnapshot(snapshot);
+      notes.add(note);
+    }
+    return notes;
+  }
+
+  /**
+   * Creates the context with the generated note mappers wired the same way as in the application.
+   * Users are resolved by a stub that behaves like a warm users cache.
+   */
+  public static AnnotationConfigApplicationContext mappersContext() {
+    var context = new AnnotationConfigApplicationContext();
+    context.registerBean(UsersService.class, CachedUsersService::new);
+    context.register(NotesMapperImpl.class, NoteCollectionMapperImpl.class, MetadataMapperImpl.class,
+      LinkMapperImpl.class);
+    context.refresh();
+    return context;
+  }
+
+  private static final class CachedUsersService implements UsersService {
+
+    private final User user = new User(UUID.randomUUID(), "librarian", new User.UserPersonal("Jane", "Doe", null));
+
+    @Override
+    public Optional<User> getUser(UUID id) {
+      return Optional.of(user);
+    }
+
+    @Override
+    public Map<UUID, User> getUsers(Collection<UUID> ids) {
+      return ids.stream()
+        .filter(Objects::nonNull)
+        .distinct()
+        .collect(Collectors.toMap(Function.identity(), id -> user));
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package org.folio.notes.controller;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.concurrent.TimeUnit;
+import org.folio.notes.benchmark.BenchmarkData;
+import org.folio.notes.domain.dto.NoteCollection;
+import org.folio.notes.domain.dto.TotalRecordsStrategy;
+import org.folio.notes.domain.mapper.NoteCollectionMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Serializes a page of notes with the JSON settings of the application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NoteCollectionSerializationBenchmark {
+
+  private JsonMapper jsonMapper;
+  private NoteCollection noteCollection;
+  private byte[] json;
+
+  @Setup
+  public void setUp() {
+    jsonMapper = JsonMapper.builder()
+      .changeDefaultPropertyInclusion(incl -> incl.withValueInclusion(JsonInclude.Include.NON_NULL))
+      .build();
+    try (var context = BenchmarkData.mappersContext()) {
+      noteCollection = context.getBean(NoteCollectionMapper.class)
+        .toDtoCollection(BenchmarkData.notePage(true), (long) BenchmarkData.PAGE_SIZE, TotalRecordsStrategy.EXACT);
+    }
+    json = jsonMapper.writeValueAsBytes(noteCollection);
+  }
+
+  @Benchmark
+  public byte[] serialize() {
+    return jsonMapper.writeValueAsBytes(noteCollection);
+  }
+
+  @Benchmark
+  public NoteCollection deserialize() {
+    return jsonMapper.readValue(json, NoteCollection.class);
+  }
+}
@@ -0,0 +1,76 @@
+package org.folio.notes.domain.mapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.folio.notes.benchmark.BenchmarkData;
+import org.folio.notes.domain.dto.NoteCollection;
+import org.folio.notes.domain.dto.TotalRecordsStrategy;
+import org.folio.notes.domain.entity.NoteEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Maps a page of notes, notes without user snapshots resolve their users through the users service.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappersBenchmark {
+
+  @Param({"true", "false"})
+  private boolean userSnapshots;
+
+  private AnnotationConfigApplicationContext context;
+  private NotesMapper notesMapper;
+  private NoteCollectionMapper noteCollectionMapper;
+  private MetadataMapper metadataMapper;
+  private List<NoteEntity> notes;
+
+  @Setup
+  public void setUp() {
+    context = BenchmarkData.mappersContext();
+    notesMapper = context.getBean(NotesMapper.class);
+    noteCollectionMapper = context.getBean(NoteCollectionMapper.class);
+    metadataMapper = context.getBean(MetadataMapper.class);
+    notes = BenchmarkData.notePage(userSnapshots);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public void notesMapper(Blackhole blackhole) {
+    for (var note : notes) {
+      blackhole.consume(notesMapper.toDto(note));
+    }
+  }
+
+  @Benchmark
+  public NoteCollection noteCollectionMapper() {
+    return noteCollectionMapper.toDtoCollection(notes, (long) notes.size(), TotalRecordsStrategy.EXACT);
+  }
+
+  @Benchmark
+  public void metadataMapper(Blackhole blackhole) {
+    for (var note : notes) {
+      blackhole.consume(metadataMapper.extractUserMetadata(note));
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package org.folio.notes.domain.repository;
+
+import static org.folio.notes.domain.repository.NoteRepository.contentLike;
+import static org.folio.notes.domain.repository.NoteRepository.domainEq;
+import static org.folio.notes.domain.repository.NoteRepository.fullTextMatch;
+import static org.folio.notes.domain.repository.NoteRepository.linkIs;
+import static org.folio.notes.domain.repository.NoteRepository.typeNameIn;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.folio.notes.benchmark.BenchmarkData;
+import org.folio.notes.domain.entity.AuditableEntity_;
+import org.folio.notes.domain.entity.LinkEntity;
+import org.folio.notes.domain.entity.NoteEntity;
+import org.folio.notes.domain.entity.NoteTypeEntity;
+import org.folio.notes.util.FullTextQueryParser;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.jpa.HibernatePersistenceConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Builds the predicates of the notes by link search the way the notes service does, against the criteria builder
+ * of an entity manager factory that is bootstrapped without a database connection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NoteSpecificationBenchmark {
+
+  private static final String DOMAIN = "eholdings";
+  private static final String OBJECT_TYPE = "package";
+  private static final String OBJECT_ID = "1-22";
+  private static final String SEARCH = "\"overdue items\" OR return* -lost";
+  private static final List<String> NOTE_TYPES = List.of("General note", "Urgent");
+
+  private EntityManagerFactory entityManagerFactory;
+  private CriteriaBuilder cb;
+  private Sort keysetSort;
+  private String cursor;
+
+  @Setup
+  public void setUp() {
+    entityManagerFactory = new HibernatePersistenceConfiguration("notes-benchmark")
+      .managedClass(NoteEntity.class)
+      .managedClass(NoteTypeEntity.class)
+      .managedClass(LinkEntity.class)
+      .property(JdbcSettings.DIALECT, "org.hibernate.dialect.PostgreSQLDialect")
+      .property(JdbcSettings.ALLOW_METADATA_ON_BOOT, false)
+      .createEntityManagerFactory();
+    cb = entityManagerFactory.getCriteriaBuilder();
+    keysetSort = NoteCursor.keysetSort(Sort.by(Sort.Order.desc(AuditableEntity_.UPDATED_DATE)));
+    cursor = NoteCursor.after(BenchmarkData.notePage(false).getFirst(), keysetSort).encode();
+  }
+
+  @TearDown
+  public void tearDown() {
+    entityManagerFactory.close();
+  }
+
+  @Benchmark
+  public Predicate substringSearch() {
+    return toPredicate(domainEq(DOMAIN)
+      .and(linkIs(OBJECT_ID, OBJECT_TYPE))
+      .and(contentLike(SEARCH))
+      .and(typeNameIn(NOTE_TYPES)));
+  }
+
+  @Benchmark
+  public Predicate fullTextSearch() {
+    return toPredicate(domainEq(DOMAIN)
+      .and(linkIs(OBJECT_ID, OBJECT_TYPE))
+      .and(fullTextMatch(FullTextQueryParser.toTsQuery(SEARCH).orElseThrow()))
+      .and(typeNameIn(NOTE_TYPES)));
+  }
+
+  @Benchmark
+  public Predicate cursorSeek() {
+    return toPredicate(domainEq(DOMAIN)
+      .and(linkIs(OBJECT_ID, OBJECT_TYPE))
+      .and(NoteCursor.decode(cursor, keysetSort).seek(keysetSort)));
+  }
+
+  private Predicate toPredicate(Specification<NoteEntity> specification) {
+    var query = cb.createQuery(NoteEntity.class);
+    return specification.toPredicate(query.from(NoteEntity.class), query, cb);
+  }
+}
@@ -0,0 +1,59 @@
+package org.folio.notes.util;
+
+import java.util.concurrent.TimeUnit;
+import org.folio.notes.benchmark.BenchmarkData;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.safety.Safelist;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HtmlSanitizerBenchmark {
+
+  @Param({"plain", "escaped", "clean", "dirty"})
+  private String kind;
+
+  @Param({"100", "1000", "10000"})
+  private int length;
+
+  private Safelist safelist;
+  private HtmlSanitizer sanitizer;
+  private String content;
+
+  @Setup
+  public void setUp() {
+    safelist = BenchmarkData.safelist();
+    sanitizer = new HtmlSanitizer(safelist);
+    content = BenchmarkData.content(kind, length);
+  }
+
+  @Benchmark
+  public String jsoupClean() {
+    return Jsoup.clean(content, "", safelist, new Document.OutputSettings().prettyPrint(false));
+  }
+
+  @Benchmark
+  public String sanitize() {
+    return sanitizer.sanitize(content);
+  }
+
+  @Benchmark
+  public Sanitizer.SanitizedContent sanitizeWithText() {
+    return sanitizer.sanitizeWithText(content);
+  }
+}
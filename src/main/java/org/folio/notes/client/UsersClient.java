@@ -2,8 +2,10 @@ package org.folio.notes.client;
 
 import java.util.Optional;
 import org.folio.notes.domain.dto.User;
+import org.folio.notes.domain.dto.UserCollection;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.service.annotation.GetExchange;
 import org.springframework.web.service.annotation.HttpExchange;
 
@@ -12,4 +14,7 @@ public interface UsersClient {
 
   @GetExchange(value = "/{id}", accept = {MediaType.APPLICATION_JSON_VALUE, MediaType.TEXT_PLAIN_VALUE})
   Optional<User> fetchUserById(@PathVariable String id);
+
+  @GetExchange(accept = {MediaType.APPLICATION_JSON_VALUE, MediaType.TEXT_PLAIN_VALUE})
+  UserCollection fetchUsers(@RequestParam("query") String query, @RequestParam("limit") int limit);
 }
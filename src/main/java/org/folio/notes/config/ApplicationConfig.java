@@ -1,15 +1,30 @@
 package org.folio.notes.config;
 
 import org.folio.notes.config.properties.SafelistProperties;
+import org.folio.spring.scope.FolioExecutionScopeExecutionContextManager;
 import org.jsoup.safety.Safelist;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
+@EnableAsync
 @EnableCaching
+@EnableScheduling
 public class ApplicationConfig {
 
+  /**
+   * Tasks of the application task executor, such as {@code @Async} methods, run with the Folio context
+   * of the submitting request.
+   */
+  @Bean
+  public TaskDecorator folioContextTaskDecorator() {
+    return FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext;
+  }
+
   @Bean
   public Safelist safelist(SafelistProperties safelistProperties) {
     Safelist safelist = new Safelist().addTags(safelistProperties.getTags());
@@ -1,8 +1,24 @@
 package org.folio.notes.config;
 
+import static org.folio.spring.scope.FolioExecutionScopeExecutionContextManager.getRunnableWithCurrentFolioContext;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import org.folio.notes.config.properties.CacheProperties;
+import org.folio.notes.config.properties.QueryCacheProperties;
+import org.folio.notes.domain.dto.NoteCollection;
+import org.folio.notes.domain.dto.NotePopUp;
+import org.folio.notes.domain.dto.User;
+import org.folio.notes.service.impl.NoteQueryCache;
+import org.folio.notes.service.impl.NoteQueryCache.QueryKey;
+import org.folio.notes.service.impl.PopUpNotesCache.PopUpKey;
+import org.folio.notes.service.impl.UsersCacheLoader;
+import org.folio.notes.service.impl.UsersCacheLoader.UserKey;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
@@ -12,20 +28,71 @@ import org.springframework.context.annotation.Configuration;
 public class CacheConfig {
 
   public static final String CACHE_USERS_BY_ID = "users-by-id";
+  public static final String CACHE_POP_UP_NOTES = "pop-up-notes";
+  public static final String CACHE_NOTE_QUERIES = "note-queries";
 
+  /**
+   * Concurrent loads of the same user are coalesced into one request and, when refreshAfterWrite is set,
+   * entries are reloaded in background while the stale value is still served.
+   */
   @Bean
-  public Caffeine<Object, Object> usersByIdCacheConfig(CacheProperties cacheProperties) {
+  public AsyncLoadingCache<UserKey, User> usersByIdCache(CacheProperties cacheProperties,
+                                                         UsersCacheLoader usersCacheLoader) {
     var cacheOptions = cacheProperties.getConfigs().get(CACHE_USERS_BY_ID);
+    var builder = Caffeine.newBuilder()
+      .initialCapacity(cacheOptions.getInitialCapacity())
+      .maximumSize(cacheOptions.getMaximumSize())
+      .expireAfterWrite(cacheOptions.getExpireAfterWrite(), cacheOptions.getTimeUnit())
+      .executor(folioContextExecutor())
+      .recordStats();
+    if (cacheOptions.getRefreshAfterWrite() > 0) {
+      builder.refreshAfterWrite(cacheOptions.getRefreshAfterWrite(), cacheOptions.getTimeUnit());
+    }
+    return builder.buildAsync(usersCacheLoader);
+  }
+
+  @Bean
+  public Cache<PopUpKey, List<NotePopUp>> popUpNotesCache(CacheProperties cacheProperties) {
+    var cacheOptions = cacheProperties.getConfigs().get(CACHE_POP_UP_NOTES);
     return Caffeine.newBuilder()
       .initialCapacity(cacheOptions.getInitialCapacity())
       .maximumSize(cacheOptions.getMaximumSize())
-      .expireAfterWrite(cacheOptions.getExpireAfterWrite(), TimeUnit.MINUTES);
+      .expireAfterWrite(cacheOptions.getExpireAfterWrite(), cacheOptions.getTimeUnit())
+      .recordStats()
+      .build();
   }
 
+  /**
+   * Results are weighed by their estimated memory, so a few large pages evict as much as many small ones.
+   */
   @Bean
-  public CacheManager cacheManager(Caffeine<Object, Object> usersByIdCacheConfig) {
-    CaffeineCacheManager cacheManager = new CaffeineCacheManager(CACHE_USERS_BY_ID);
-    cacheManager.setCaffeine(usersByIdCacheConfig);
+  public Cache<QueryKey, NoteCollection> noteQueryCache(QueryCacheProperties queryCacheProperties) {
+    return Caffeine.newBuilder()
+      .maximumWeight(queryCacheProperties.getMaxSize().toBytes())
+      .weigher(NoteQueryCache::weigh)
+      .expireAfterWrite(queryCacheProperties.getExpireAfterWrite())
+      .recordStats()
+      .build();
+  }
+
+  @Bean
+  @SuppressWarnings("unchecked")
+  public CacheManager cacheManager(AsyncLoadingCache<UserKey, User> usersByIdCache,
+                                   Cache<PopUpKey, List<NotePopUp>> popUpNotesCache,
+                                   Cache<QueryKey, NoteCollection> noteQueryCache) {
+    CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    var usersCache = (AsyncCache<Object, Object>) (AsyncCache<?, ?>) usersByIdCache;
+    cacheManager.registerCustomCache(CACHE_USERS_BY_ID, usersCache);
+    cacheManager.registerCustomCache(CACHE_POP_UP_NOTES, (Cache<Object, Object>) (Cache<?, ?>) popUpNotesCache);
+    cacheManager.registerCustomCache(CACHE_NOTE_QUERIES, (Cache<Object, Object>) (Cache<?, ?>) noteQueryCache);
     return cacheManager;
   }
+
+  /**
+   * Loads are submitted from the requesting thread, so the tasks carry its Folio context to the loader.
+   */
+  private Executor folioContextExecutor() {
+    var executor = Executors.newVirtualThreadPerTaskExecutor();
+    return task -> executor.execute(getRunnableWithCurrentFolioContext(task));
+  }
 }
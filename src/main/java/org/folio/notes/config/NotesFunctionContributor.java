@@ -0,0 +1,29 @@
+package org.folio.notes.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers PostgreSQL full-text search functions for criteria queries. The tsvector expression must be
+ * the same as the expression of the {@code idx_note_search} index, otherwise the index is not used.
+ * Registered with {@code META-INF/services/org.hibernate.boot.model.FunctionContributor}.
+ */
+public class NotesFunctionContributor implements FunctionContributor {
+
+  public static final String FULL_TEXT_MATCH = "notes_full_text_match";
+  public static final String FULL_TEXT_RANK = "notes_full_text_rank";
+
+  private static final String SEARCH_VECTOR = "to_tsvector('simple', coalesce(?1, ''))";
+  private static final String SEARCH_QUERY = "to_tsquery('simple', ?2)";
+
+  @Override
+  public void contributeFunctions(FunctionContributions functionContributions) {
+    var registry = functionContributions.getFunctionRegistry();
+    var basicTypes = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+    registry.registerPattern(FULL_TEXT_MATCH, "(" + SEARCH_VECTOR + " @@ " + SEARCH_QUERY + ")",
+      basicTypes.resolve(StandardBasicTypes.BOOLEAN));
+    registry.registerPattern(FULL_TEXT_RANK, "ts_rank(" + SEARCH_VECTOR + ", " + SEARCH_QUERY + ")",
+      basicTypes.resolve(StandardBasicTypes.FLOAT));
+  }
+}
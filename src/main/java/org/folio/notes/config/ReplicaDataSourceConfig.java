@@ -0,0 +1,83 @@
+package org.folio.notes.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.folio.notes.config.properties.ReplicaProperties;
+import org.folio.notes.datasource.RecentWrites;
+import org.folio.notes.datasource.ReplicaLagMonitor;
+import org.folio.notes.datasource.ReplicaRoutingDataSource;
+import org.folio.notes.datasource.ReplicaRoutingDataSource.Route;
+import org.folio.notes.datasource.RoutingJpaTransactionManager;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Routes read-only transactions to a streaming replica when {@code folio.notes.replica.enabled} is set. The primary
+ * pool is configured with the {@code spring.datasource} properties, the routing data source replaces it as
+ * the application data source, so Liquibase, JDBC and non read-only transactions keep using the primary pool.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "folio.notes.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+  private static final String REPLICA_POOL_NAME = "replica";
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+    return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+
+  @Bean
+  public HikariDataSource replicaDataSource(ReplicaProperties replicaProperties) {
+    var dataSource = DataSourceBuilder.create()
+      .type(HikariDataSource.class)
+      .url(replicaProperties.getUrl())
+      .username(replicaProperties.getUsername())
+      .password(replicaProperties.getPassword())
+      .build();
+    dataSource.setPoolName(REPLICA_POOL_NAME);
+    dataSource.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+    return dataSource;
+  }
+
+  @Bean
+  public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                             ReplicaProperties replicaProperties) {
+    return new ReplicaLagMonitor(new JdbcTemplate(replicaDataSource), replicaProperties.getMaxLag());
+  }
+
+  @Bean
+  public RecentWrites recentWrites(ReplicaProperties replicaProperties) {
+    return new RecentWrites(replicaProperties.getReadYourWritesWindow());
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                               @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                               ReplicaLagMonitor replicaLagMonitor, RecentWrites recentWrites,
+                               FolioExecutionContext context) {
+    var dataSource = new ReplicaRoutingDataSource(replicaLagMonitor, recentWrites, context);
+    dataSource.setTargetDataSources(Map.of(Route.PRIMARY, primaryDataSource, Route.REPLICA, replicaDataSource));
+    dataSource.setDefaultTargetDataSource(primaryDataSource);
+    return dataSource;
+  }
+
+  @Bean
+  public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory,
+                                                       RecentWrites recentWrites, FolioExecutionContext context) {
+    return new RoutingJpaTransactionManager(entityManagerFactory, recentWrites, context);
+  }
+}
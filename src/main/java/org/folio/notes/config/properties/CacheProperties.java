@@ -1,6 +1,7 @@
 package org.folio.notes.config.properties;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -21,5 +22,13 @@ public class CacheProperties {
     int initialCapacity;
     int maximumSize;
     int expireAfterWrite;
+    /**
+     * Time in timeUnit after which an entry is reloaded in background on the next read, 0 disables refreshing.
+     */
+    int refreshAfterWrite;
+    /**
+     * Unit of expireAfterWrite and refreshAfterWrite.
+     */
+    TimeUnit timeUnit = TimeUnit.MINUTES;
   }
 }
@@ -0,0 +1,29 @@
+package org.folio.notes.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "folio.notes.link-reaper")
+public class LinkReaperProperties {
+
+  /**
+   * Periodically delete links that are not assigned to any note.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Delay between the end of a run and the start of the next one.
+   */
+  private Duration interval = Duration.ofHours(1);
+
+  /**
+   * Number of links deleted in one transaction.
+   */
+  private int batchSize = 500;
+}
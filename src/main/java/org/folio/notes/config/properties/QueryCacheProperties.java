@@ -0,0 +1,30 @@
+package org.folio.notes.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "folio.notes.query-cache")
+public class QueryCacheProperties {
+
+  /**
+   * Cache results of CQL note queries.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Estimated memory of cached results above which the least used results are evicted.
+   */
+  private DataSize maxSize = DataSize.ofMegabytes(64);
+
+  /**
+   * Time after which a cached result expires, it bounds staleness of results after writes on other instances.
+   */
+  private Duration expireAfterWrite = Duration.ofSeconds(30);
+}
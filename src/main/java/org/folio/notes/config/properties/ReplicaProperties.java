@@ -0,0 +1,48 @@
+package org.folio.notes.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "folio.notes.replica")
+public class ReplicaProperties {
+
+  /**
+   * Route read-only transactions to the replica database.
+   */
+  private boolean enabled = false;
+
+  /**
+   * JDBC URL of the replica database.
+   */
+  private String url;
+
+  private String username;
+
+  private String password;
+
+  /**
+   * Maximum number of connections to the replica database.
+   */
+  private int maximumPoolSize = 10;
+
+  /**
+   * Time after a write of a user during which reads of the same user go to the primary database.
+   */
+  private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+  /**
+   * Replication lag above which reads go to the primary database.
+   */
+  private Duration maxLag = Duration.ofSeconds(10);
+
+  /**
+   * Delay between replication lag checks.
+   */
+  private Duration lagCheckInterval = Duration.ofSeconds(5);
+}
@@ -0,0 +1,23 @@
+package org.folio.notes.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "folio.notes.sql-profiler")
+public class SqlProfilerProperties {
+
+  /**
+   * Count SQL statements and JDBC time of each request.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Number of SQL statements of a request above which a warning is logged.
+   */
+  private int statementBudget = 20;
+}
@@ -0,0 +1,23 @@
+package org.folio.notes.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "folio.notes.user-snapshot")
+public class UserSnapshotProperties {
+
+  /**
+   * Capture username and personal name of the acting user on note writes instead of resolving them on reads.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Number of users resolved per request to mod-users while backfilling snapshots of existing notes.
+   */
+  private int backfillBatchSize = 50;
+}
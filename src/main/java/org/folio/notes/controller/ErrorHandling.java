@@ -3,6 +3,7 @@ package org.folio.notes.controller;
 import static org.folio.notes.util.ErrorsHelper.ErrorCode.NOTE_TYPES_LIMIT_REACHED;
 import static org.folio.notes.util.ErrorsHelper.ErrorCode.NOT_FOUND_ERROR;
 import static org.folio.notes.util.ErrorsHelper.ErrorCode.VALIDATION_ERROR;
+import static org.folio.notes.util.ErrorsHelper.ErrorCode.VERSION_CONFLICT;
 import static org.folio.notes.util.ErrorsHelper.createError;
 import static org.folio.notes.util.ErrorsHelper.createErrors;
 import static org.folio.notes.util.ErrorsHelper.createInternalError;
@@ -12,11 +13,13 @@ import java.util.List;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.notes.exception.NoteTypesLimitReached;
 import org.folio.notes.exception.ResourceNotFoundException;
+import org.folio.notes.exception.VersionMismatchException;
 import org.folio.notes.util.ErrorsHelper;
 import org.folio.spring.cql.CqlQueryValidationException;
 import org.folio.tenant.domain.dto.Errors;
 import org.folio.tenant.domain.dto.Parameter;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -37,6 +40,19 @@ public class ErrorHandling {
     return createInternalError(e.getMessage(), NOT_FOUND_ERROR);
   }
 
+  @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+  @ExceptionHandler(VersionMismatchException.class)
+  public Errors handleVersionMismatchException(VersionMismatchException e) {
+    return createInternalError(e.getMessage(), VERSION_CONFLICT);
+  }
+
+  @ResponseStatus(HttpStatus.CONFLICT)
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public Errors handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+    return createInternalError("The record was changed by another request, read it again and retry the update",
+      VERSION_CONFLICT);
+  }
+
   @ResponseStatus(HttpStatus.UNPROCESSABLE_CONTENT)
   @ExceptionHandler(NoteTypesLimitReached.class)
   public Errors handleConstraintViolationException(NoteTypesLimitReached e) {
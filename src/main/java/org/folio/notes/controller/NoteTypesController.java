@@ -7,6 +7,8 @@ import org.folio.notes.domain.dto.NoteType;
 import org.folio.notes.domain.dto.NoteTypeCollection;
 import org.folio.notes.rest.resource.NoteTypesApi;
 import org.folio.notes.service.NoteTypesService;
+import org.folio.notes.util.EntityTags;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -28,19 +30,40 @@ public class NoteTypesController implements NoteTypesApi {
     return ResponseEntity.noContent().build();
   }
 
+  /**
+   * With If-None-Match, the note type version and usage are checked before the note type is read.
+   */
   @Override
-  public ResponseEntity<NoteType> getNoteType(UUID id) {
-    return ResponseEntity.ok(noteTypesService.getNoteType(id));
+  public ResponseEntity<NoteType> getNoteType(UUID id, String ifNoneMatch) {
+    if (ifNoneMatch != null) {
+      var version = noteTypesService.getNoteTypeVersion(id);
+      var etag = EntityTags.of(version.getVersion(), version.getNoteCount());
+      if (EntityTags.matches(ifNoneMatch, etag)) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+      }
+    }
+    var noteType = noteTypesService.getNoteType(id);
+    var etag = EntityTags.of(noteType.getVersion(), noteType.getUsage().getNoteCount());
+    return ResponseEntity.ok().eTag(etag).body(noteType);
   }
 
+  /**
+   * The collection tag is taken before the collection is read, so a concurrent change can only make it outdated
+   * and the next request reads the collection again.
+   */
   @Override
-  public ResponseEntity<NoteTypeCollection> getNoteTypeCollection(String query, Integer offset, Integer limit) {
-    return ResponseEntity.ok(noteTypesService.getNoteTypeCollection(query, offset, limit));
+  public ResponseEntity<NoteTypeCollection> getNoteTypeCollection(String query, Integer offset, Integer limit,
+                                                                  String ifNoneMatch) {
+    var etag = EntityTags.ofDigest(query, offset, limit, noteTypesService.getNoteTypeVersions());
+    if (EntityTags.matches(ifNoneMatch, etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+    return ResponseEntity.ok().eTag(etag).body(noteTypesService.getNoteTypeCollection(query, offset, limit));
   }
 
   @Override
-  public ResponseEntity<Void> updateNoteType(UUID id, NoteType noteType) {
-    noteTypesService.updateNoteType(id, noteType);
+  public ResponseEntity<Void> updateNoteType(UUID id, NoteType noteType, String ifMatch) {
+    noteTypesService.updateNoteType(id, noteType, EntityTags.expectedVersion(ifMatch));
     return ResponseEntity.noContent().build();
   }
 }
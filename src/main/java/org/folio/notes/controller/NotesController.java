@@ -7,19 +7,30 @@ import lombok.RequiredArgsConstructor;
 import org.folio.notes.domain.dto.LinkStatusFilter;
 import org.folio.notes.domain.dto.Note;
 import org.folio.notes.domain.dto.NoteCollection;
+import org.folio.notes.domain.dto.NoteLinkCountCollection;
+import org.folio.notes.domain.dto.NoteLinkCountsRequest;
 import org.folio.notes.domain.dto.NoteLinkUpdateCollection;
+import org.folio.notes.domain.dto.NotePopUpCollection;
 import org.folio.notes.domain.dto.NotesOrderBy;
+import org.folio.notes.domain.dto.NotesSearchMode;
 import org.folio.notes.domain.dto.OrderDirection;
+import org.folio.notes.domain.dto.PopUpContext;
 import org.folio.notes.rest.resource.NotesApi;
+import org.folio.notes.service.NoteExportService;
 import org.folio.notes.service.NotesService;
+import org.folio.notes.util.EntityTags;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
 public class NotesController implements NotesApi {
 
   private final NotesService notesService;
+  private final NoteExportService noteExportService;
 
   @Override
   public ResponseEntity<Note> createNote(Note note) {
@@ -34,22 +45,74 @@ public class NotesController implements NotesApi {
   }
 
   @Override
-  public ResponseEntity<Note> getNote(UUID id) {
-    return ResponseEntity.ok(notesService.getNote(id));
+  public ResponseEntity<NoteLinkCountCollection> countNotesByLinks(NoteLinkCountsRequest noteLinkCountsRequest) {
+    return ResponseEntity.ok(notesService.countNotesByLinks(noteLinkCountsRequest));
   }
 
   @Override
-  public ResponseEntity<NoteCollection> getNoteCollection(String query, Integer offset, Integer limit) {
-    return ResponseEntity.ok(notesService.getNoteCollection(query, offset, limit));
+  public ResponseEntity<NotePopUpCollection> getPopUpNotes(String objectType, String objectId,
+                                                           PopUpContext context) {
+    return ResponseEntity.ok(notesService.getPopUpNotes(objectType, objectId, context));
   }
 
+  @Override
+  public ResponseEntity<Void> deleteLinks(String objectType, String objectId, Boolean async) {
+    if (Boolean.TRUE.equals(async)) {
+      notesService.deleteLinksAsync(objectType, objectId);
+      return ResponseEntity.accepted().build();
+    }
+    notesService.deleteLinks(objectType, objectId);
+    return ResponseEntity.noContent().build();
+  }
+
+  @Override
+  public ResponseEntity<StreamingResponseBody> exportNotes(String domain, String objectType, String objectId,
+                                                           String query) {
+    return ResponseEntity.ok()
+      .contentType(MediaType.APPLICATION_NDJSON)
+      .body(noteExportService.exportNotes(domain, objectType, objectId, query));
+  }
+
+  /**
+   * With If-None-Match, the note version, type name and links are checked before the note is read and enriched.
+   */
+  @Override
+  public ResponseEntity<Note> getNote(UUID id, String ifNoneMatch) {
+    if (ifNoneMatch != null) {
+      var etag = noteTag(notesService.getNoteVersion(id));
+      if (EntityTags.matches(ifNoneMatch, etag)) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+      }
+    }
+    var note = notesService.getNote(id);
+    return ResponseEntity.ok().eTag(noteTag(note)).body(note);
+  }
+
+  @Override
+  public ResponseEntity<NoteCollection> getNoteCollection(String query, Integer offset, Integer limit,
+                                                          String cursor, String totalRecords) {
+    return ResponseEntity.ok(notesService.getNoteCollection(query, offset, limit, cursor, totalRecords));
+  }
+
+  /**
+   * The collection tag is a digest of the returned page and count, so it costs no query of its own,
+   * If-None-Match saves the response body but not the read.
+   */
   @Override
   public ResponseEntity<NoteCollection> getNoteCollectionByLink(String domain, String objectType, String objectId,
-                                                                String search, List<String> noteType,
-                                                                LinkStatusFilter status, NotesOrderBy orderBy,
-                                                                OrderDirection order, Integer offset, Integer limit) {
-    return ResponseEntity.ok(notesService.getNoteCollection(domain, objectType, objectId, search, noteType, status,
-      orderBy, order, offset, limit));
+                                                                String search, NotesSearchMode searchMode,
+                                                                List<String> noteType, LinkStatusFilter status,
+                                                                NotesOrderBy orderBy, OrderDirection order,
+                                                                Integer offset, Integer limit, String cursor,
+                                                                String totalRecords, String ifNoneMatch) {
+    var notes = notesService.getNoteCollection(domain, objectType, objectId, search, searchMode, noteType, status,
+      orderBy, order, offset, limit, cursor, totalRecords);
+    var etag = EntityTags.ofDigest(notes.getTotalRecords(), notes.getTotalRecordsStrategy(), notes.getNextCursor(),
+      notes.getNotes().stream().map(note -> note.getId() + noteTag(note)).toList());
+    if (EntityTags.matches(ifNoneMatch, etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+    return ResponseEntity.ok().eTag(etag).body(notes);
   }
 
   @Override
@@ -60,8 +123,17 @@ public class NotesController implements NotesApi {
   }
 
   @Override
-  public ResponseEntity<Void> updateNote(UUID id, Note note) {
-    notesService.updateNote(id, note);
+  public ResponseEntity<Void> updateNote(UUID id, Note note, String ifMatch) {
+    notesService.updateNote(id, note, EntityTags.expectedVersion(ifMatch));
     return ResponseEntity.noContent().build();
   }
+
+  /**
+   * The note tag starts with the note version, the name of the note type and the links are returned with the note
+   * but don't change its version, so they are added as a digest.
+   */
+  private static String noteTag(Note note) {
+    var links = note.getLinks().stream().map(link -> link.getType() + ":" + link.getId()).sorted().toList();
+    return EntityTags.of(note.getVersion(), EntityTags.digest(note.getType(), links));
+  }
 }
@@ -0,0 +1,37 @@
+package org.folio.notes.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Users that committed a write within the read-your-writes window, their reads are routed to the primary database
+ * so that they see their own changes while the replica catches up.
+ */
+public class RecentWrites {
+
+  private static final int MAXIMUM_SIZE = 10_000;
+
+  private final Cache<WriterKey, Boolean> writers;
+
+  public RecentWrites(Duration window) {
+    this.writers = window.isZero() ? null : Caffeine.newBuilder()
+      .maximumSize(MAXIMUM_SIZE)
+      .expireAfterWrite(window)
+      .build();
+  }
+
+  public void add(String tenantId, UUID userId) {
+    if (writers != null && tenantId != null && userId != null) {
+      writers.put(new WriterKey(tenantId, userId), Boolean.TRUE);
+    }
+  }
+
+  public boolean contains(String tenantId, UUID userId) {
+    return writers != null && tenantId != null && userId != null
+           && writers.getIfPresent(new WriterKey(tenantId, userId)) != null;
+  }
+
+  private record WriterKey(String tenantId, UUID userId) { }
+}
@@ -0,0 +1,60 @@
+package org.folio.notes.datasource;
+
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Checks the replication lag of the replica database. The replica is unavailable for reads until the first
+ * successful check, when its lag exceeds the maximum, and when it can't be queried.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+  /**
+   * Seconds since the last replayed transaction, zero when all received WAL is replayed or when the database
+   * is not in recovery.
+   */
+  private static final String LAG_QUERY = """
+    SELECT CASE
+      WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+      ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+    END""";
+
+  private final JdbcTemplate replicaJdbcTemplate;
+  private final Duration maxLag;
+  private volatile boolean replicaAvailable;
+
+  public ReplicaLagMonitor(JdbcTemplate replicaJdbcTemplate, Duration maxLag) {
+    this.replicaJdbcTemplate = replicaJdbcTemplate;
+    this.maxLag = maxLag;
+  }
+
+  public boolean isReplicaAvailable() {
+    return replicaAvailable;
+  }
+
+  /**
+   * Runs with the lag check interval of {@code ReplicaProperties}, so the interval is bound the same way as other
+   * properties.
+   */
+  @Scheduled(fixedDelayString = "#{@replicaProperties.lagCheckInterval.toMillis()}")
+  public void checkLag() {
+    boolean available;
+    try {
+      var lagSeconds = replicaJdbcTemplate.queryForObject(LAG_QUERY, Double.class);
+      var lag = Duration.ofMillis(Math.round(lagSeconds == null ? 0 : lagSeconds * 1000));
+      available = lag.compareTo(maxLag) <= 0;
+      log.debug("checkLag:: replica lag: {} ms", lag.toMillis());
+    } catch (DataAccessException e) {
+      log.warn("checkLag:: failed to check replica lag: {}", e.getMessage());
+      available = false;
+    }
+    if (available != replicaAvailable) {
+      log.info("checkLag:: reads are routed to the {} database", available ? "replica" : "primary");
+      replicaAvailable = available;
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package org.folio.notes.datasource;
+
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Routes connections of read-only transactions to the replica database. Reads go to the primary database when
+ * the replica lags behind, when the user wrote within the read-your-writes window, and outside of read-only
+ * transactions. The read-only flag is set by {@link RoutingJpaTransactionManager} before the connection is taken.
+ * Loads of shared caches are run {@link #onPrimary(Supplier) on the primary database}, so that they don't cache
+ * results the replica hasn't caught up with.
+ */
+@RequiredArgsConstructor
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  private static final ThreadLocal<Boolean> READ_ONLY = new ThreadLocal<>();
+  private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+  private final ReplicaLagMonitor lagMonitor;
+  private final RecentWrites recentWrites;
+  private final FolioExecutionContext context;
+
+  static void setReadOnly(boolean readOnly) {
+    READ_ONLY.set(readOnly);
+  }
+
+  static void clearReadOnly() {
+    READ_ONLY.remove();
+  }
+
+  /**
+   * Runs the action with connections of transactions it begins taken from the primary database. Transactions
+   * joined by the action keep their connection.
+   */
+  public static <T> T onPrimary(Supplier<T> action) {
+    if (Boolean.TRUE.equals(PRIMARY_ONLY.get())) {
+      return action.get();
+    }
+    PRIMARY_ONLY.set(Boolean.TRUE);
+    try {
+      return action.get();
+    } finally {
+      PRIMARY_ONLY.remove();
+    }
+  }
+
+  @Override
+  protected Route determineCurrentLookupKey() {
+    if (!Boolean.TRUE.equals(READ_ONLY.get()) || Boolean.TRUE.equals(PRIMARY_ONLY.get())
+        || !lagMonitor.isReplicaAvailable()
+        || recentWrites.contains(context.getTenantId(), context.getUserId())) {
+      return Route.PRIMARY;
+    }
+    return Route.REPLICA;
+  }
+
+  public enum Route {
+    PRIMARY,
+    REPLICA
+  }
+}
@@ -0,0 +1,53 @@
+package org.folio.notes.datasource;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * Marks connections of read-only transactions for {@link ReplicaRoutingDataSource}. The flag is set before
+ * the transaction takes its connection, transactions that join an outer one keep its connection. Users whose
+ * write transactions commit are added to {@link RecentWrites}.
+ */
+public class RoutingJpaTransactionManager extends JpaTransactionManager {
+
+  private final transient RecentWrites recentWrites;
+  private final transient FolioExecutionContext context;
+
+  public RoutingJpaTransactionManager(EntityManagerFactory entityManagerFactory, RecentWrites recentWrites,
+                                      FolioExecutionContext context) {
+    super(entityManagerFactory);
+    this.recentWrites = recentWrites;
+    this.context = context;
+  }
+
+  @Override
+  protected void doBegin(Object transaction, TransactionDefinition definition) {
+    ReplicaRoutingDataSource.setReadOnly(definition.isReadOnly());
+    try {
+      super.doBegin(transaction, definition);
+    } catch (RuntimeException e) {
+      ReplicaRoutingDataSource.clearReadOnly();
+      throw e;
+    }
+  }
+
+  @Override
+  protected void doCommit(DefaultTransactionStatus status) {
+    super.doCommit(status);
+    if (!status.isReadOnly()) {
+      recentWrites.add(context.getTenantId(), context.getUserId());
+    }
+  }
+
+  @Override
+  protected void doCleanupAfterCompletion(Object transaction) {
+    try {
+      super.doCleanupAfterCompletion(transaction);
+    } finally {
+      ReplicaRoutingDataSource.clearReadOnly();
+    }
+  }
+}
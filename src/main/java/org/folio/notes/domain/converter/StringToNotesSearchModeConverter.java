@@ -0,0 +1,15 @@
+package org.folio.notes.domain.converter;
+
+import org.folio.notes.domain.dto.NotesSearchMode;
+import org.jspecify.annotations.NonNull;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StringToNotesSearchModeConverter implements Converter<String, NotesSearchMode> {
+
+  @Override
+  public NotesSearchMode convert(@NonNull String source) {
+    return NotesSearchMode.fromValue(source);
+  }
+}
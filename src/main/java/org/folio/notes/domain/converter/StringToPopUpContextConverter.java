@@ -0,0 +1,15 @@
+package org.folio.notes.domain.converter;
+
+import org.folio.notes.domain.dto.PopUpContext;
+import org.jspecify.annotations.NonNull;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StringToPopUpContextConverter implements Converter<String, PopUpContext> {
+
+  @Override
+  public PopUpContext convert(@NonNull String source) {
+    return PopUpContext.fromValue(source);
+  }
+}
@@ -0,0 +1,5 @@
+package org.folio.notes.domain.dto;
+
+import java.util.List;
+
+public record UserCollection(List<User> users, Integer totalRecords) { }
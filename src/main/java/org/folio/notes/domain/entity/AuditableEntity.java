@@ -3,6 +3,7 @@ package org.folio.notes.domain.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
 import java.sql.Timestamp;
 import java.util.UUID;
 import lombok.Getter;
@@ -36,4 +37,8 @@ public abstract class AuditableEntity extends BaseEntity {
   @LastModifiedBy
   @Column(name = "updated_by")
   private UUID updatedBy;
+
+  @Version
+  @Column(name = "version", nullable = false)
+  private int version;
 }
@@ -1,6 +1,8 @@
 package org.folio.notes.domain.entity;
 
+import jakarta.persistence.AttributeOverride;
 import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Index;
@@ -62,6 +64,20 @@ public class NoteEntity extends AuditableEntity {
   @JoinColumn(name = "type_id", nullable = false)
   private NoteTypeEntity type;
 
+  @Embedded
+  @AttributeOverride(name = "username", column = @Column(name = "created_by_username"))
+  @AttributeOverride(name = "firstName", column = @Column(name = "created_by_first_name"))
+  @AttributeOverride(name = "lastName", column = @Column(name = "created_by_last_name"))
+  @AttributeOverride(name = "middleName", column = @Column(name = "created_by_middle_name"))
+  private UserSnapshot createdBySnapshot;
+
+  @Embedded
+  @AttributeOverride(name = "username", column = @Column(name = "updated_by_username"))
+  @AttributeOverride(name = "firstName", column = @Column(name = "updated_by_first_name"))
+  @AttributeOverride(name = "lastName", column = @Column(name = "updated_by_last_name"))
+  @AttributeOverride(name = "middleName", column = @Column(name = "updated_by_middle_name"))
+  private UserSnapshot updatedBySnapshot;
+
   @JoinTable(name = "note_link",
              joinColumns = @JoinColumn(name = "note_id", referencedColumnName = "id"),
              inverseJoinColumns = @JoinColumn(name = "link_id", referencedColumnName = "id"))
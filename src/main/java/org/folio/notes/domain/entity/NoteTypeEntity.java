@@ -1,7 +1,7 @@
 package org.folio.notes.domain.entity;
 
-import static org.folio.notes.domain.entity.NoteTypeEntity.FIND_ALL_NOTE_TYPES_USAGES_QUERY;
-import static org.folio.notes.domain.entity.NoteTypeEntity.FIND_ALL_NOTE_TYPES_USAGES_QUERY_NAME;
+import static org.folio.notes.domain.entity.NoteTypeEntity.FIND_NOTE_TYPES_USAGES_QUERY;
+import static org.folio.notes.domain.entity.NoteTypeEntity.FIND_NOTE_TYPES_USAGES_QUERY_NAME;
 import static org.folio.notes.domain.entity.NoteTypeEntity.FIND_NOTE_TYPE_USAGE_QUERY;
 import static org.folio.notes.domain.entity.NoteTypeEntity.FIND_NOTE_TYPE_USAGE_QUERY_NAME;
 
@@ -18,8 +18,8 @@ import lombok.Setter;
 import lombok.ToString;
 
 @NamedNativeQuery(
-  name = FIND_ALL_NOTE_TYPES_USAGES_QUERY_NAME,
-  query = FIND_ALL_NOTE_TYPES_USAGES_QUERY
+  name = FIND_NOTE_TYPES_USAGES_QUERY_NAME,
+  query = FIND_NOTE_TYPES_USAGES_QUERY
 )
 @NamedNativeQuery(
   name = FIND_NOTE_TYPE_USAGE_QUERY_NAME,
@@ -37,14 +37,16 @@ import lombok.ToString;
 @ToString(onlyExplicitlyIncluded = true)
 public class NoteTypeEntity extends AuditableEntity {
 
-  public static final String FIND_ALL_NOTE_TYPES_USAGES_QUERY_NAME = "NoteTypeEntity.findAllNoteTypesUsages";
-  public static final String FIND_ALL_NOTE_TYPES_USAGES_QUERY = "SELECT cast(id as varchar) as typeId, "
-    + "EXISTS (SELECT cast(type_id as varchar) FROM note "
-    + "WHERE cast(type_id as varchar) = cast(type.id as varchar) LIMIT 1) as isAssigned FROM type";
+  public static final String FIND_NOTE_TYPES_USAGES_QUERY_NAME = "NoteTypeEntity.findNoteTypesUsages";
+  public static final String NOTE_TYPES_USAGES_QUERY = "SELECT type.id as typeId, "
+    + "coalesce(type_usage.note_count, 0) as noteCount FROM type "
+    + "LEFT JOIN type_usage ON type_usage.type_id = type.id";
+  public static final String FIND_NOTE_TYPES_USAGES_QUERY = NOTE_TYPES_USAGES_QUERY
+    + " WHERE type.id IN (:noteTypeIds)";
 
   public static final String FIND_NOTE_TYPE_USAGE_QUERY_NAME = "NoteTypeEntity.findNoteTypeUsage";
-  public static final String FIND_NOTE_TYPE_USAGE_QUERY = FIND_ALL_NOTE_TYPES_USAGES_QUERY
-    + " WHERE cast(id as varchar) = cast(:noteTypeId as varchar)";
+  public static final String FIND_NOTE_TYPE_USAGE_QUERY = NOTE_TYPES_USAGES_QUERY
+    + " WHERE type.id = :noteTypeId";
 
   @NotBlank
   @ToString.Include
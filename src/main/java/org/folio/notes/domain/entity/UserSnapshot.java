@@ -0,0 +1,43 @@
+package org.folio.notes.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.folio.notes.domain.dto.User;
+
+/**
+ * Username and personal name of a user captured when a note is written.
+ */
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSnapshot {
+
+  @Column(name = "username")
+  private String username;
+
+  @Column(name = "first_name")
+  private String firstName;
+
+  @Column(name = "last_name")
+  private String lastName;
+
+  @Column(name = "middle_name")
+  private String middleName;
+
+  public static UserSnapshot from(User user) {
+    var personal = user.personal();
+    return personal == null
+           ? new UserSnapshot(user.username(), null, null, null)
+           : new UserSnapshot(user.username(), personal.firstName(), personal.lastName(), personal.middleName());
+  }
+
+  public boolean hasPersonalName() {
+    return firstName != null || lastName != null || middleName != null;
+  }
+}
@@ -0,0 +1,9 @@
+package org.folio.notes.domain.entity.projection;
+
+public interface LinkNoteCount {
+  String getObjectId();
+
+  String getObjectType();
+
+  Long getNoteCount();
+}
@@ -0,0 +1,7 @@
+package org.folio.notes.domain.entity.projection;
+
+public interface NoteTypeVersion {
+  Integer getVersion();
+
+  Long getNoteCount();
+}
@@ -0,0 +1,11 @@
+package org.folio.notes.domain.entity.projection;
+
+public interface NoteVersion {
+  Integer getVersion();
+
+  String getTypeName();
+
+  String getObjectId();
+
+  String getObjectType();
+}
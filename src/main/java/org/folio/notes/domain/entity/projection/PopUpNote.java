@@ -0,0 +1,13 @@
+package org.folio.notes.domain.entity.projection;
+
+import java.util.UUID;
+
+public interface PopUpNote {
+  UUID getId();
+
+  String getTitle();
+
+  String getContent();
+
+  String getTypeName();
+}
@@ -3,11 +3,14 @@ package org.folio.notes.domain.mapper;
 import java.sql.Timestamp;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
+import java.util.Arrays;
 import java.util.UUID;
 import org.folio.notes.domain.dto.Metadata;
 import org.folio.notes.domain.dto.User;
 import org.folio.notes.domain.dto.UserInfo;
 import org.folio.notes.domain.entity.AuditableEntity;
+import org.folio.notes.domain.entity.NoteEntity;
+import org.folio.notes.domain.entity.UserSnapshot;
 import org.folio.notes.service.UsersService;
 import org.mapstruct.AfterMapping;
 import org.mapstruct.BeanMapping;
@@ -25,6 +28,7 @@ public abstract class MetadataMapper {
   private UsersService usersService;
 
   @Named("BaseMetadataMapper")
+  @BeanMapping(qualifiedByName = "ExtractUserSnapshot")
   @Mapping(target = "updatedByUserId", source = "updatedBy")
   @Mapping(target = "createdByUserId", source = "createdBy")
   @Mapping(target = "updatedByUsername", ignore = true)
@@ -33,38 +37,56 @@ public abstract class MetadataMapper {
   @Mapping(target = "updatedBy", ignore = true)
   abstract Metadata extractBaseMetadata(AuditableEntity entity);
 
-  @Named("UserMetadataMapper")
-  @BeanMapping(qualifiedByName = "ExtractUserInfo")
-  @Mapping(target = "updatedByUserId", source = "updatedBy")
-  @Mapping(target = "createdByUserId", source = "createdBy")
-  @Mapping(target = "updatedByUsername", ignore = true)
-  @Mapping(target = "createdByUsername", ignore = true)
-  @Mapping(target = "createdBy", ignore = true)
-  @Mapping(target = "updatedBy", ignore = true)
-  abstract Metadata extractUserMetadata(AuditableEntity entity);
-
-  @Named("ExtractUserInfo")
+  /**
+   * Fills user info from the snapshots stored with a note, without calling mod-users.
+   */
+  @Named("ExtractUserSnapshot")
   @AfterMapping
-  void extractUserInfo(AuditableEntity source, @MappingTarget Metadata target) {
-    UUID createdByUserId = source.getCreatedBy();
+  void extractUserSnapshot(AuditableEntity source, @MappingTarget Metadata target) {
+    if (source instanceof NoteEntity note) {
+      setCreatedBy(target, note.getCreatedBySnapshot());
+      setUpdatedBy(target, note.getUpdatedBySnapshot());
+    }
+  }
+
+  /**
+   * Fills user info of users without a snapshot from mod-users. It is called for already mapped metadata
+   * after the transaction is completed, so no database connection is held while mod-users is called.
+   */
+  public void resolveUsers(Metadata target) {
+    UUID createdByUserId = target.getCreatedByUsername() == null ? target.getCreatedByUserId() : null;
+    UUID updatedByUserId = target.getUpdatedByUsername() == null ? target.getUpdatedByUserId() : null;
+    if (createdByUserId == null && updatedByUserId == null) {
+      return;
+    }
+    var users = usersService.getUsers(Arrays.asList(createdByUserId, updatedByUserId));
     if (createdByUserId != null) {
-      usersService.getUser(createdByUserId)
-        .ifPresent(user -> {
-          target.setCreatedByUsername(user.username());
-          target.setCreatedBy(toUserDto(user.personal()));
-        });
+      setCreatedBy(target, toSnapshot(users.get(createdByUserId)));
     }
-    UUID updatedByUserId = source.getUpdatedBy();
     if (updatedByUserId != null) {
-      usersService.getUser(updatedByUserId)
-        .ifPresent(user -> {
-          target.setUpdatedByUsername(user.username());
-          target.setUpdatedBy(toUserDto(user.personal()));
-        });
+      setUpdatedBy(target, toSnapshot(users.get(updatedByUserId)));
+    }
+  }
+
+  abstract UserInfo toUserInfo(UserSnapshot source);
+
+  private void setCreatedBy(Metadata target, UserSnapshot snapshot) {
+    if (snapshot != null) {
+      target.setCreatedByUsername(snapshot.getUsername());
+      target.setCreatedBy(snapshot.hasPersonalName() ? toUserInfo(snapshot) : null);
     }
   }
 
-  abstract UserInfo toUserDto(User.UserPersonal source);
+  private void setUpdatedBy(Metadata target, UserSnapshot snapshot) {
+    if (snapshot != null) {
+      target.setUpdatedByUsername(snapshot.getUsername());
+      target.setUpdatedBy(snapshot.hasPersonalName() ? toUserInfo(snapshot) : null);
+    }
+  }
+
+  private UserSnapshot toSnapshot(User user) {
+    return user == null ? null : UserSnapshot.from(user);
+  }
 
   OffsetDateTime map(Timestamp value) {
     return OffsetDateTime.from(value.toInstant().atZone(ZoneId.systemDefault()));
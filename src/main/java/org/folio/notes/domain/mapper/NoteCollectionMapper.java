@@ -3,11 +3,11 @@ package org.folio.notes.domain.mapper;
 import java.util.List;
 import org.folio.notes.domain.dto.Note;
 import org.folio.notes.domain.dto.NoteCollection;
+import org.folio.notes.domain.dto.TotalRecordsStrategy;
 import org.folio.notes.domain.entity.NoteEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.NullValueCheckStrategy;
-import org.springframework.data.domain.Page;
 
 @Mapper(componentModel = "spring", nullValueCheckStrategy = NullValueCheckStrategy.ALWAYS,
   uses = {
@@ -22,10 +22,12 @@ public interface NoteCollectionMapper {
   @Mapping(target = "type", expression = "java(entity.getType().getName())")
   Note toDto(NoteEntity entity);
 
-  default NoteCollection toDtoCollection(Page<NoteEntity> entityList) {
+  default NoteCollection toDtoCollection(List<NoteEntity> entityList, Long totalRecords,
+                                         TotalRecordsStrategy totalRecordsStrategy) {
     return new NoteCollection()
-      .notes(toDtoList(entityList.getContent()))
-      .totalRecords(Math.toIntExact(entityList.getTotalElements()));
+      .notes(toDtoList(entityList))
+      .totalRecords(totalRecords == null ? null : Math.toIntExact(totalRecords))
+      .totalRecordsStrategy(totalRecordsStrategy);
   }
 
   List<Note> toDtoList(List<NoteEntity> entityList);
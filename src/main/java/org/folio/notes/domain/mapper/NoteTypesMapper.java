@@ -26,9 +26,10 @@ public interface NoteTypesMapper {
   @Mapping(target = "updatedDate", ignore = true)
   @Mapping(target = "createdBy", ignore = true)
   @Mapping(target = "updatedBy", ignore = true)
+  @Mapping(target = "version", ignore = true)
   NoteTypeEntity toEntity(NoteType dto);
 
-  default NoteTypeCollection toDtoCollection(Page<NoteTypeEntity> entityList, Map<UUID, Boolean> noteTypeUsage) {
+  default NoteTypeCollection toDtoCollection(Page<NoteTypeEntity> entityList, Map<UUID, Long> noteTypeUsage) {
     var noteTypes = toDtoList(entityList.getContent());
     noteTypes.forEach(noteType -> noteType.setUsage(getNoteTypeUsage(noteType.getId(), noteTypeUsage)));
     return new NoteTypeCollection()
@@ -44,11 +45,14 @@ public interface NoteTypesMapper {
   @Mapping(target = "updatedDate", ignore = true)
   @Mapping(target = "createdBy", ignore = true)
   @Mapping(target = "updatedBy", ignore = true)
+  @Mapping(target = "version", ignore = true)
   @Mapping(target = "name", source = "name", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
   NoteTypeEntity updateNoteType(NoteType dto, @MappingTarget NoteTypeEntity entity);
 
-  default NoteTypeUsage getNoteTypeUsage(UUID id, Map<UUID, Boolean> noteTypeUsage) {
-    var isAssigned = noteTypeUsage.getOrDefault(id, false);
-    return new NoteTypeUsage().isAssigned(isAssigned);
+  default NoteTypeUsage getNoteTypeUsage(UUID id, Map<UUID, Long> noteTypeUsage) {
+    var noteCount = noteTypeUsage.getOrDefault(id, 0L);
+    return new NoteTypeUsage()
+      .isAssigned(noteCount > 0)
+      .noteCount(Math.toIntExact(noteCount));
   }
 }
@@ -1,7 +1,10 @@
 package org.folio.notes.domain.mapper;
 
+import java.util.List;
 import org.folio.notes.domain.dto.Note;
+import org.folio.notes.domain.dto.NotePopUp;
 import org.folio.notes.domain.entity.NoteEntity;
+import org.folio.notes.domain.entity.projection.PopUpNote;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -14,7 +17,7 @@ import org.mapstruct.NullValueCheckStrategy;
   })
 public interface NotesMapper {
 
-  @Mapping(target = "metadata", source = "entity", qualifiedByName = "UserMetadataMapper")
+  @Mapping(target = "metadata", source = "entity", qualifiedByName = "BaseMetadataMapper")
   @Mapping(target = "typeId", expression = "java(entity.getType().getId())")
   @Mapping(target = "type", expression = "java(entity.getType().getName())")
   Note toDto(NoteEntity entity);
@@ -26,6 +29,9 @@ public interface NotesMapper {
   @Mapping(target = "updatedDate", ignore = true)
   @Mapping(target = "createdBy", ignore = true)
   @Mapping(target = "updatedBy", ignore = true)
+  @Mapping(target = "createdBySnapshot", ignore = true)
+  @Mapping(target = "updatedBySnapshot", ignore = true)
+  @Mapping(target = "version", ignore = true)
   NoteEntity toEntity(Note dto);
 
   @Mapping(target = "new", ignore = true)
@@ -37,5 +43,13 @@ public interface NotesMapper {
   @Mapping(target = "createdDate", ignore = true)
   @Mapping(target = "createdBy", ignore = true)
   @Mapping(target = "type", ignore = true)
+  @Mapping(target = "createdBySnapshot", ignore = true)
+  @Mapping(target = "updatedBySnapshot", ignore = true)
+  @Mapping(target = "version", ignore = true)
   NoteEntity updateNote(Note dto, @MappingTarget NoteEntity entity);
+
+  @Mapping(target = "type", source = "typeName")
+  NotePopUp toPopUpDto(PopUpNote popUpNote);
+
+  List<NotePopUp> toPopUpDtos(List<PopUpNote> popUpNotes);
 }
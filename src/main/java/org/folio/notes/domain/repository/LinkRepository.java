@@ -1,11 +1,83 @@
 package org.folio.notes.domain.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.folio.notes.domain.entity.LinkEntity;
+import org.folio.notes.domain.entity.projection.LinkNoteCount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface LinkRepository extends JpaRepository<LinkEntity, UUID> {
 
+  String UPSERT_LINKS_QUERY = "INSERT INTO link (object_id, object_type) "
+    + "SELECT l.object_id, l.object_type "
+    + "FROM unnest(cast(:objectIds as varchar[]), cast(:objectTypes as varchar[])) AS l(object_id, object_type) "
+    + "ORDER BY l.object_type, l.object_id "
+    + "ON CONFLICT (object_id, object_type) DO UPDATE SET object_id = EXCLUDED.object_id "
+    + "RETURNING id";
+
+  String REQUESTED_LINKS = "unnest(cast(:objectIds as varchar[]), cast(:objectTypes as varchar[])) "
+    + "AS o(object_id, object_type) JOIN link l ON l.object_id = o.object_id AND l.object_type = o.object_type ";
+
+  String COUNT_NOTES_QUERY = "SELECT l.object_id AS objectId, l.object_type AS objectType, count(*) AS noteCount "
+    + "FROM " + REQUESTED_LINKS
+    + "JOIN note_link nl ON nl.link_id = l.id "
+    + "GROUP BY l.object_id, l.object_type";
+
+  String COUNT_FILTERED_NOTES_QUERY = "SELECT l.object_id AS objectId, l.object_type AS objectType, "
+    + "count(*) AS noteCount "
+    + "FROM " + REQUESTED_LINKS
+    + "JOIN note_link nl ON nl.link_id = l.id "
+    + "JOIN note n ON n.id = nl.note_id "
+    + "JOIN type t ON t.id = n.type_id "
+    + "WHERE (cast(:domain as varchar) IS NULL OR n.domain = cast(:domain as varchar)) "
+    + "AND (cardinality(cast(:typeNames as varchar[])) = 0 OR t.name = ANY(cast(:typeNames as varchar[]))) "
+    + "GROUP BY l.object_id, l.object_type";
+
   Optional<LinkEntity> findByObjectIdAndObjectType(String objectId, String objectType);
+
+  /**
+   * Inserts missing links and returns ids of both inserted and already existing links.
+   * Pairs of object id and object type must be distinct.
+   */
+  @Transactional
+  @Query(value = UPSERT_LINKS_QUERY, nativeQuery = true)
+  List<UUID> upsertLinks(@Param("objectIds") String[] objectIds, @Param("objectTypes") String[] objectTypes);
+
+  /**
+   * Counts notes of each of the given objects, objects without notes are not returned.
+   * Pairs of object id and object type must be distinct.
+   */
+  @Query(value = COUNT_NOTES_QUERY, nativeQuery = true)
+  List<LinkNoteCount> countNotes(@Param("objectIds") String[] objectIds, @Param("objectTypes") String[] objectTypes);
+
+  /**
+   * Same as {@link #countNotes}, but counts only notes of the domain, if it is not null,
+   * and of the note types with the given names, if there are any.
+   */
+  @Query(value = COUNT_FILTERED_NOTES_QUERY, nativeQuery = true)
+  List<LinkNoteCount> countNotes(@Param("objectIds") String[] objectIds, @Param("objectTypes") String[] objectTypes,
+                                 @Param("domain") String domain, @Param("typeNames") String[] typeNames);
+
+  /**
+   * Locks up to limit links that are not assigned to any note. Links locked by concurrent upserts or note link
+   * inserts are skipped, and no note can be linked to the returned links until the transaction ends.
+   */
+  @Query(value = "SELECT l.id FROM link l WHERE NOT EXISTS (SELECT 1 FROM note_link nl WHERE nl.link_id = l.id) "
+                 + "LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+  List<UUID> lockUnassignedIds(@Param("limit") int limit);
+
+  /**
+   * Deletes the given links that are still not assigned to any note. Must be called in the transaction
+   * that locked the links with {@link #lockUnassignedIds}.
+   */
+  @Modifying
+  @Query(value = "DELETE FROM link l WHERE l.id IN (:ids) "
+                 + "AND NOT EXISTS (SELECT 1 FROM note_link nl WHERE nl.link_id = l.id)", nativeQuery = true)
+  int deleteUnassigned(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,197 @@
+package org.folio.notes.domain.repository;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.folio.notes.domain.entity.AuditableEntity_;
+import org.folio.notes.domain.entity.BaseEntity_;
+import org.folio.notes.domain.entity.NoteEntity;
+import org.folio.notes.domain.entity.NoteEntity_;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Position after a note in a sorted list of notes. Keeps the sort key values of the note,
+ * the last sort key is always the note id that makes the position unique.
+ *
+ * <p>The cursor is turned into a seek predicate, so the next page is read with
+ * {@code WHERE (key) > (last key) LIMIT n} instead of skipping all the previous rows with OFFSET.
+ */
+public record NoteCursor(List<Key> keys) {
+
+  /**
+   * Value of the first page cursor.
+   */
+  public static final String FIRST_PAGE = "*";
+
+  private static final String KEY_DELIMITER = ".";
+  private static final String VALUE_DELIMITER = ":";
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+  private static final Map<String, Function<NoteEntity, Object>> KEY_EXTRACTORS = Map.of(
+    NoteEntity_.TITLE, NoteEntity::getTitle,
+    NoteEntity_.INDEXED_CONTENT, NoteEntity::getIndexedContent,
+    NoteEntity_.TYPE, note -> note.getType().getId(),
+    AuditableEntity_.UPDATED_DATE, NoteEntity::getUpdatedDate,
+    BaseEntity_.ID, NoteEntity::getId
+  );
+
+  /**
+   * Keeps the first order of the sort and appends the note id as the last key to make it unique.
+   * Further orders, such as the content tie-break of offset pages, are dropped, so that cursors
+   * don't carry the note content.
+   *
+   * @throws IllegalArgumentException if the sort has a key that can't be used as a seek key
+   */
+  public static Sort keysetSort(Sort sort) {
+    if (sort.getOrderFor(NoteRepository.RELEVANCE) != null) {
+      throw new IllegalArgumentException("Cursor can't be used with ordering by relevance");
+    }
+    return sort.stream().findFirst()
+      .map(Sort::by)
+      .orElseGet(Sort::unsorted)
+      .and(Sort.by(Sort.Order.asc(BaseEntity_.ID)));
+  }
+
+  /**
+   * Creates the cursor pointing after the given note.
+   */
+  public static NoteCursor after(NoteEntity note, Sort keysetSort) {
+    var keys = keysetSort.stream()
+      .map(order -> new Key(order.getProperty(), formatValue(KEY_EXTRACTORS.get(order.getProperty()).apply(note))))
+      .toList();
+    return new NoteCursor(keys);
+  }
+
+  /**
+   * Decodes the cursor received from a client and checks that it was created for the same sort.
+   *
+   * @throws IllegalArgumentException if the cursor is malformed or was created for another sort
+   */
+  public static NoteCursor decode(String cursor, Sort keysetSort) {
+    List<Key> keys;
+    try {
+      var decoded = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+      keys = Arrays.stream(decoded.split(Pattern.quote(KEY_DELIMITER), -1))
+        .map(NoteCursor::decodeKey)
+        .toList();
+      keys.forEach(NoteCursor::parseValue);
+    } catch (IllegalArgumentException | DateTimeException e) {
+      throw invalidCursor(cursor);
+    }
+    var properties = keysetSort.stream().map(Sort.Order::getProperty).toList();
+    if (!properties.equals(keys.stream().map(Key::property).toList())) {
+      throw invalidCursor(cursor);
+    }
+    return new NoteCursor(keys);
+  }
+
+  public String encode() {
+    var value = keys.stream()
+      .map(NoteCursor::encodeKey)
+      .collect(Collectors.joining(KEY_DELIMITER));
+    return ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Creates the seek predicate that matches notes placed after the cursor in the given sort.
+   * Nulls are placed the way PostgreSQL sorts them by default: last for ascending and first for descending order.
+   */
+  public Specification<NoteEntity> seek(Sort keysetSort) {
+    var orders = keysetSort.toList();
+    return (root, query, cb) -> {
+      Predicate predicate = null;
+      for (int i = keys.size() - 1; i >= 0; i--) {
+        var expression = keyExpression(root, keys.get(i).property());
+        var value = parseValue(keys.get(i));
+        var beyond = beyond(cb, expression, orders.get(i).getDirection(), value);
+        predicate = predicate == null
+                    ? beyond
+                    : cb.or(beyond, cb.and(equalTo(cb, expression, value), predicate));
+      }
+      return predicate;
+    };
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Predicate beyond(CriteriaBuilder cb, Expression expression, Sort.Direction direction,
+                                  Comparable value) {
+    if (value == null) {
+      return direction.isAscending() ? cb.disjunction() : cb.isNotNull(expression);
+    }
+    return direction.isAscending()
+           ? cb.or(cb.greaterThan(expression, value), cb.isNull(expression))
+           : cb.lessThan(expression, value);
+  }
+
+  private static Predicate equalTo(CriteriaBuilder cb, Expression<?> expression, Object value) {
+    return value == null ? cb.isNull(expression) : cb.equal(expression, value);
+  }
+
+  private static Path<?> keyExpression(Root<NoteEntity> root, String property) {
+    return NoteEntity_.TYPE.equals(property)
+           ? root.get(NoteEntity_.type).get(BaseEntity_.id)
+           : root.get(property);
+  }
+
+  private static String encodeKey(Key key) {
+    if (key.value() == null) {
+      return key.property();
+    }
+    return key.property() + VALUE_DELIMITER + ENCODER.encodeToString(key.value().getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static Key decodeKey(String key) {
+    var delimiterIndex = key.indexOf(VALUE_DELIMITER);
+    if (delimiterIndex < 0) {
+      return new Key(key, null);
+    }
+    var value = new String(DECODER.decode(key.substring(delimiterIndex + 1)), StandardCharsets.UTF_8);
+    return new Key(key.substring(0, delimiterIndex), value);
+  }
+
+  private static String formatValue(Object value) {
+    if (value instanceof Timestamp timestamp) {
+      return timestamp.toInstant().toString();
+    }
+    return value == null ? null : value.toString();
+  }
+
+  private static Comparable<?> parseValue(Key key) {
+    if (key.value() == null) {
+      return null;
+    }
+    return switch (key.property()) {
+      case NoteEntity_.TYPE, BaseEntity_.ID -> UUID.fromString(key.value());
+      case AuditableEntity_.UPDATED_DATE -> Timestamp.from(Instant.parse(key.value()));
+      default -> key.value();
+    };
+  }
+
+  private static IllegalArgumentException invalidCursor(String cursor) {
+    return new IllegalArgumentException("Invalid cursor [" + cursor + "] for the requested order");
+  }
+
+  /**
+   * Sort key of a note.
+   *
+   * @param property sorted entity property
+   * @param value    value of the property in the string form, {@code null} if the property is not set
+   */
+  public record Key(String property, String value) { }
+}
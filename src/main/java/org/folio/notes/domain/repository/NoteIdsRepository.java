@@ -0,0 +1,56 @@
+package org.folio.notes.domain.repository;
+
+import jakarta.persistence.criteria.CriteriaQuery;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.folio.notes.domain.entity.NoteEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Pages over note ids only, so that LIMIT/OFFSET is applied by the database and never
+ * in memory as it happens when a collection-fetching entity graph is paged.
+ * Pages are read without counting, the total is counted separately only when it is requested.
+ */
+public interface NoteIdsRepository {
+
+  List<UUID> findIds(Specification<NoteEntity> spec, Pageable pageable);
+
+  /**
+   * Same as {@link #findIds(Specification, Pageable)}, but the {@link NoteRepository#RELEVANCE} sort property
+   * is replaced with the full-text search rank of the note for the given tsquery.
+   */
+  List<UUID> findIdsByRelevance(Specification<NoteEntity> spec, String tsQuery, Pageable pageable);
+
+  /**
+   * Counts notes matching the specification, but stops counting at the cap.
+   */
+  long countIds(Specification<NoteEntity> spec, int cap);
+
+  /**
+   * Returns notes matching both the CQL query and the specification. If the pageable is sorted,
+   * it overrides the sort of the query, this is used to apply the keyset sort, see {@link NoteCursor}.
+   *
+   * @throws IllegalArgumentException if both the pageable and the CQL query are sorted
+   */
+  List<NoteEntity> findAllByCql(String cql, Specification<NoteEntity> spec, Pageable pageable);
+
+  /**
+   * Counts notes matching the CQL query, but stops counting at the cap.
+   */
+  long countByCql(String cql, int cap);
+
+  /**
+   * Creates the query of notes matching both the CQL query and the specification, without running it.
+   *
+   * @throws org.folio.spring.cql.CqlQueryValidationException if the CQL query is invalid
+   */
+  CriteriaQuery<NoteEntity> createCqlQuery(String cql, Specification<NoteEntity> spec);
+
+  /**
+   * Streams notes of the query with a server-side cursor that fetches the given number of rows at once.
+   * The stream must be read and closed in a transaction.
+   */
+  Stream<NoteEntity> stream(CriteriaQuery<NoteEntity> query, int fetchSize);
+}
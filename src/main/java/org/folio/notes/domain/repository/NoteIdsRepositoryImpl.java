@@ -0,0 +1,145 @@
+package org.folio.notes.domain.repository;
+
+import static org.folio.notes.config.NotesFunctionContributor.FULL_TEXT_RANK;
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.folio.notes.domain.entity.BaseEntity_;
+import org.folio.notes.domain.entity.NoteEntity;
+import org.folio.notes.domain.entity.NoteEntity_;
+import org.folio.spring.cql.Cql2JpaCriteria;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.sqm.internal.SqmCriteriaNodeBuilder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+@RequiredArgsConstructor
+public class NoteIdsRepositoryImpl implements NoteIdsRepository {
+
+  private final EntityManager entityManager;
+
+  @Override
+  public List<UUID> findIds(Specification<NoteEntity> spec, Pageable pageable) {
+    var cb = entityManager.getCriteriaBuilder();
+    var query = idsQuery(spec, cb);
+    query.orderBy(toOrders(pageable.getSort(), noteRoot(query), cb));
+    return page(query, pageable);
+  }
+
+  @Override
+  public List<UUID> findIdsByRelevance(Specification<NoteEntity> spec, String tsQuery, Pageable pageable) {
+    var cb = entityManager.getCriteriaBuilder();
+    var query = idsQuery(spec, cb);
+    var root = noteRoot(query);
+    var orders = new ArrayList<Order>();
+    for (var order : pageable.getSort()) {
+      if (NoteRepository.RELEVANCE.equals(order.getProperty())) {
+        var rank = cb.function(FULL_TEXT_RANK, Float.class, root.get(NoteEntity_.indexedContent),
+          ((SqmCriteriaNodeBuilder) cb).value(tsQuery));
+        orders.add(order.isAscending() ? cb.asc(rank) : cb.desc(rank));
+      } else {
+        orders.addAll(toOrders(Sort.by(order), root, cb));
+      }
+    }
+    query.orderBy(orders);
+    return page(query, pageable);
+  }
+
+  @Override
+  public long countIds(Specification<NoteEntity> spec, int cap) {
+    var query = (JpaCriteriaQuery<UUID>) idsQuery(spec, entityManager.getCriteriaBuilder());
+    return cappedCount(query, cap);
+  }
+
+  @Override
+  public List<NoteEntity> findAllByCql(String cql, Specification<NoteEntity> spec, Pageable pageable) {
+    var cb = entityManager.getCriteriaBuilder();
+    var query = cqlQuery(cql);
+    var root = noteRoot(query);
+    applySpecification(spec, root, query, cb);
+    if (pageable.getSort().isSorted()) {
+      if (!query.getOrderList().isEmpty()) {
+        throw new IllegalArgumentException("Cursor can't be used with a query that has sortBy");
+      }
+      query.orderBy(toOrders(pageable.getSort(), root, cb));
+    }
+    return page(query, pageable);
+  }
+
+  @Override
+  public long countByCql(String cql, int cap) {
+    var query = (JpaCriteriaQuery<NoteEntity>) cqlQuery(cql);
+    query.orderBy(List.of());
+    return cappedCount(query, cap);
+  }
+
+  @Override
+  public CriteriaQuery<NoteEntity> createCqlQuery(String cql, Specification<NoteEntity> spec) {
+    var query = cqlQuery(cql);
+    applySpecification(spec, noteRoot(query), query, entityManager.getCriteriaBuilder());
+    return query;
+  }
+
+  @Override
+  public Stream<NoteEntity> stream(CriteriaQuery<NoteEntity> query, int fetchSize) {
+    return entityManager.createQuery(query)
+      .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+      .setHint(HibernateHints.HINT_READ_ONLY, true)
+      .getResultStream();
+  }
+
+  private <T> List<T> page(CriteriaQuery<T> query, Pageable pageable) {
+    return entityManager.createQuery(query)
+      .setFirstResult((int) pageable.getOffset())
+      .setMaxResults(pageable.getPageSize())
+      .getResultList();
+  }
+
+  /**
+   * Counts rows of the query limited by the cap: {@code select count(*) from (select ... fetch first cap rows)}.
+   */
+  private long cappedCount(JpaCriteriaQuery<?> query, int cap) {
+    query.fetch(cap);
+    return entityManager.createQuery(query.createCountQuery()).getSingleResult();
+  }
+
+  private CriteriaQuery<UUID> idsQuery(Specification<NoteEntity> spec, CriteriaBuilder cb) {
+    var query = cb.createQuery(UUID.class);
+    var root = query.from(NoteEntity.class);
+    query.select(root.get(BaseEntity_.id));
+    applySpecification(spec, root, query, cb);
+    return query;
+  }
+
+  private CriteriaQuery<NoteEntity> cqlQuery(String cql) {
+    return new Cql2JpaCriteria<>(NoteEntity.class, entityManager).toCollectCriteria(cql);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Root<NoteEntity> noteRoot(CriteriaQuery<?> query) {
+    return (Root<NoteEntity>) query.getRoots().iterator().next();
+  }
+
+  /**
+   * Adds the specification predicate to the query restriction, if any.
+   */
+  private void applySpecification(Specification<NoteEntity> spec, Root<NoteEntity> root, CriteriaQuery<?> query,
+                                  CriteriaBuilder cb) {
+    var predicate = spec.toPredicate(root, query, cb);
+    if (predicate != null) {
+      var restriction = query.getRestriction();
+      query.where(restriction == null ? predicate : cb.and(restriction, predicate));
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package org.folio.notes.domain.repository;
 
+import static org.folio.notes.config.NotesFunctionContributor.FULL_TEXT_MATCH;
+
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Join;
@@ -8,7 +10,9 @@ import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.SetJoin;
 import jakarta.persistence.criteria.Subquery;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.folio.notes.domain.entity.BaseEntity_;
 import org.folio.notes.domain.entity.LinkEntity;
@@ -17,22 +21,61 @@ import org.folio.notes.domain.entity.NoteEntity;
 import org.folio.notes.domain.entity.NoteEntity_;
 import org.folio.notes.domain.entity.NoteTypeEntity;
 import org.folio.notes.domain.entity.NoteTypeEntity_;
+import org.folio.notes.domain.entity.projection.NoteVersion;
+import org.folio.notes.domain.entity.projection.PopUpNote;
 import org.folio.spring.cql.JpaCqlRepository;
 import org.hibernate.query.sqm.internal.SqmCriteriaNodeBuilder;
-import org.jspecify.annotations.NonNull;
-import org.jspecify.annotations.Nullable;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
-public interface NoteRepository extends JpaCqlRepository<NoteEntity, UUID>, JpaSpecificationExecutor<NoteEntity> {
+public interface NoteRepository extends JpaCqlRepository<NoteEntity, UUID>, JpaSpecificationExecutor<NoteEntity>,
+  NoteIdsRepository {
 
   String NOTE_COLLECTION_GRAPH = "note-collection-graph";
 
+  /**
+   * Sort property for ordering by full-text search relevance, see {@link NoteIdsRepository#findIdsByRelevance}.
+   */
+  String RELEVANCE = "relevance";
+
+  String POP_UP_NOTES_QUERY = "SELECT n.id AS id, n.title AS title, n.content AS content, t.name AS typeName "
+    + "FROM link l "
+    + "JOIN note_link nl ON nl.link_id = l.id "
+    + "JOIN note n ON n.id = nl.note_id "
+    + "JOIN type t ON t.id = n.type_id "
+    + "WHERE l.object_id = :objectId AND l.object_type = :objectType AND ";
+
+  String POP_UP_NOTES_ORDER = " ORDER BY n.updated_date DESC, n.id";
+
+  /**
+   * Notes are joined with the users once by creator and once by updater, so a note of two users of the batch
+   * is updated by a single row and both snapshots are filled.
+   */
+  String BACKFILL_SNAPSHOTS_QUERY = "WITH u AS (SELECT * FROM unnest(cast(:userIds as uuid[]), "
+    + "cast(:usernames as varchar[]), cast(:firstNames as varchar[]), cast(:lastNames as varchar[]), "
+    + "cast(:middleNames as varchar[])) AS u(id, username, first_name, last_name, middle_name)) "
+    + "UPDATE note n SET "
+    + "created_by_username = CASE WHEN c.id IS NULL THEN n.created_by_username ELSE c.username END, "
+    + "created_by_first_name = CASE WHEN c.id IS NULL THEN n.created_by_first_name ELSE c.first_name END, "
+    + "created_by_last_name = CASE WHEN c.id IS NULL THEN n.created_by_last_name ELSE c.last_name END, "
+    + "created_by_middle_name = CASE WHEN c.id IS NULL THEN n.created_by_middle_name ELSE c.middle_name END, "
+    + "updated_by_username = CASE WHEN m.id IS NULL THEN n.updated_by_username ELSE m.username END, "
+    + "updated_by_first_name = CASE WHEN m.id IS NULL THEN n.updated_by_first_name ELSE m.first_name END, "
+    + "updated_by_last_name = CASE WHEN m.id IS NULL THEN n.updated_by_last_name ELSE m.last_name END, "
+    + "updated_by_middle_name = CASE WHEN m.id IS NULL THEN n.updated_by_middle_name ELSE m.middle_name END, "
+    + "version = n.version + 1 "
+    + "FROM note s "
+    + "LEFT JOIN u c ON c.id = s.created_by AND s.created_by_username IS NULL "
+    + "LEFT JOIN u m ON m.id = s.updated_by AND s.updated_by_username IS NULL "
+    + "WHERE s.id = n.id AND (c.id IS NOT NULL OR m.id IS NOT NULL)";
+
   static Specification<NoteEntity> domainEq(String domain) {
     return (root, query, cb) -> cb.equal(root.get(NoteEntity_.domain), domain);
   }
@@ -42,6 +85,14 @@ public interface NoteRepository extends JpaCqlRepository<NoteEntity, UUID>, JpaS
       ((SqmCriteriaNodeBuilder) cb).ilike(root.get(NoteEntity_.indexedContent), "%" + text + "%");
   }
 
+  /**
+   * The tsquery is bound as a parameter, so that searches for different words share the statement.
+   */
+  static Specification<NoteEntity> fullTextMatch(String tsQuery) {
+    return (root, query, cb) -> cb.isTrue(cb.function(FULL_TEXT_MATCH, Boolean.class,
+      root.get(NoteEntity_.indexedContent), ((SqmCriteriaNodeBuilder) cb).value(tsQuery)));
+  }
+
   static Specification<NoteEntity> typeNameIn(List<String> typeNames) {
     return (root, query, cb) -> {
       Join<NoteEntity, NoteTypeEntity> typeJoin = root.join(NoteEntity_.type);
@@ -72,8 +123,95 @@ public interface NoteRepository extends JpaCqlRepository<NoteEntity, UUID>, JpaS
     return cb.exists(subQuery);
   }
 
-  @NonNull
   @EntityGraph(value = NOTE_COLLECTION_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
-  Page<NoteEntity> findAll(@Nullable Specification<NoteEntity> spec, @NonNull Pageable pageable);
+  List<NoteEntity> findAllByIdIn(Collection<UUID> ids);
+
+  /**
+   * Finds the note together with its type and links in one statement.
+   */
+  @EntityGraph(value = NOTE_COLLECTION_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
+  Optional<NoteEntity> findWithTypeAndLinksById(UUID id);
+
+  /**
+   * Returns the number of notes estimated by the last ANALYZE of the table, negative if the table was never analyzed.
+   */
+  @Query(value = "SELECT CAST(reltuples AS bigint) FROM pg_class WHERE oid = to_regclass('note')", nativeQuery = true)
+  long estimateCount();
+
+  /**
+   * Returns the version of the note with the name of its note type, one row per link of the note.
+   */
+  @Query("select n.version as version, t.name as typeName, l.objectId as objectId, l.objectType as objectType "
+         + "from NoteEntity n join n.type t left join n.links l where n.id = :id")
+  List<NoteVersion> findVersionById(@Param("id") UUID id);
+
+  /**
+   * Assigns the link to the notes.
+   *
+   * @return number of notes the link was added to
+   */
+  @Modifying(flushAutomatically = true)
+  @Query(value = "INSERT INTO note_link (note_id, link_id) SELECT n.id, :linkId FROM note n "
+                 + "WHERE n.id = ANY(cast(:noteIds as uuid[])) ON CONFLICT DO NOTHING", nativeQuery = true)
+  int assignLink(@Param("linkId") UUID linkId, @Param("noteIds") UUID[] noteIds);
+
+  /**
+   * Unassigns the link from the notes.
+   *
+   * @return number of notes the link was removed from
+   */
+  @Modifying(flushAutomatically = true)
+  @Query(value = "DELETE FROM note_link WHERE link_id = :linkId AND note_id = ANY(cast(:noteIds as uuid[]))",
+         nativeQuery = true)
+  int unassignLink(@Param("linkId") UUID linkId, @Param("noteIds") UUID[] noteIds);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(value = "DELETE FROM note n WHERE n.id = ANY(cast(:noteIds as uuid[])) "
+                 + "AND NOT EXISTS (SELECT 1 FROM note_link nl WHERE nl.note_id = n.id)", nativeQuery = true)
+  int deleteUnlinked(@Param("noteIds") UUID[] noteIds);
+
+  @Modifying(flushAutomatically = true)
+  @Query(value = "DELETE FROM note_link WHERE link_id = :linkId", nativeQuery = true)
+  int unassignLink(@Param("linkId") UUID linkId);
+
+  /**
+   * Deletes notes that have the given link and no other links.
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(value = "DELETE FROM note n "
+                 + "WHERE EXISTS (SELECT 1 FROM note_link nl WHERE nl.note_id = n.id AND nl.link_id = :linkId) "
+                 + "AND NOT EXISTS (SELECT 1 FROM note_link nl WHERE nl.note_id = n.id AND nl.link_id <> :linkId)",
+         nativeQuery = true)
+  int deleteLinkedOnlyTo(@Param("linkId") UUID linkId);
+
+  /**
+   * Notes of the object that pop up on check-out, the flag matches the predicate of a partial index.
+   */
+  @Query(value = POP_UP_NOTES_QUERY + "n.pop_up_on_check_out" + POP_UP_NOTES_ORDER, nativeQuery = true)
+  List<PopUpNote> findCheckOutPopUps(@Param("objectId") String objectId, @Param("objectType") String objectType);
+
+  /**
+   * Notes of the object that pop up in the users app, the flag matches the predicate of a partial index.
+   */
+  @Query(value = POP_UP_NOTES_QUERY + "n.pop_up_on_user" + POP_UP_NOTES_ORDER, nativeQuery = true)
+  List<PopUpNote> findUserPopUps(@Param("objectId") String objectId, @Param("objectType") String objectType);
+
+  @Query(value = "SELECT created_by FROM note WHERE created_by IS NOT NULL AND created_by_username IS NULL "
+                 + "UNION SELECT updated_by FROM note WHERE updated_by IS NOT NULL AND updated_by_username IS NULL",
+         nativeQuery = true)
+  List<UUID> findUserIdsWithoutSnapshot();
+
+  /**
+   * Fills missing snapshots of notes created or updated by the given users in one statement, arrays hold
+   * the user ids and the snapshot fields of the users at the same positions.
+   *
+   * @return number of updated notes
+   */
+  @Transactional
+  @Modifying
+  @Query(value = BACKFILL_SNAPSHOTS_QUERY, nativeQuery = true)
+  int backfillSnapshots(@Param("userIds") UUID[] userIds, @Param("usernames") String[] usernames,
+                        @Param("firstNames") String[] firstNames, @Param("lastNames") String[] lastNames,
+                        @Param("middleNames") String[] middleNames);
 }
 
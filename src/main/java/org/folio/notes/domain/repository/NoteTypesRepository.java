@@ -1,19 +1,36 @@
 package org.folio.notes.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.folio.notes.domain.entity.NoteTypeEntity;
 import org.folio.notes.domain.entity.projection.NoteTypeCount;
+import org.folio.notes.domain.entity.projection.NoteTypeVersion;
 import org.folio.spring.cql.JpaCqlRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface NoteTypesRepository extends JpaCqlRepository<NoteTypeEntity, UUID> {
 
-  @Query(name = NoteTypeEntity.FIND_ALL_NOTE_TYPES_USAGES_QUERY_NAME)
-  List<NoteTypeCount> findAllNoteTypesUsages();
+  @Query(name = NoteTypeEntity.FIND_NOTE_TYPES_USAGES_QUERY_NAME)
+  List<NoteTypeCount> findNoteTypesUsages(@Param("noteTypeIds") Collection<UUID> noteTypeIds);
 
   @Query(name = NoteTypeEntity.FIND_NOTE_TYPE_USAGE_QUERY_NAME)
   Optional<NoteTypeCount> findNoteTypeUsage(@Param("noteTypeId") UUID noteTypeId);
+
+  /**
+   * Returns the version and the number of notes of the note type, both are parts of its entity tag.
+   */
+  @Query(value = "SELECT t.version AS version, coalesce(u.note_count, 0) AS noteCount FROM type t "
+                 + "LEFT JOIN type_usage u ON u.type_id = t.id WHERE t.id = :noteTypeId", nativeQuery = true)
+  Optional<NoteTypeVersion> findNoteTypeVersion(@Param("noteTypeId") UUID noteTypeId);
+
+  /**
+   * Returns ids, versions and numbers of notes of all note types, the number of note types is limited,
+   * so a change of any note type is detected without reading the note types of a collection.
+   */
+  @Query(value = "SELECT coalesce(string_agg(concat_ws(':', t.id, t.version, u.note_count), ',' ORDER BY t.id), '') "
+                 + "FROM type t LEFT JOIN type_usage u ON u.type_id = t.id", nativeQuery = true)
+  String findNoteTypeVersions();
 }
@@ -0,0 +1,14 @@
+package org.folio.notes.exception;
+
+public class VersionMismatchException extends RuntimeException {
+
+  private static final String MISMATCH_MSG_TEMPLATE = "%s with ID [%s] has version %d, but version %d is expected";
+
+  public VersionMismatchException(String message) {
+    super(message);
+  }
+
+  public VersionMismatchException(String resourceName, Object id, int version, int expectedVersion) {
+    super(String.format(MISMATCH_MSG_TEMPLATE, resourceName, id, version, expectedVersion));
+  }
+}
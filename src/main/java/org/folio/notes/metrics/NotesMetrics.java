@@ -0,0 +1,141 @@
+package org.folio.notes.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Objects;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records metrics of notes hot paths, they are tagged with the tenant of the current Folio context.
+ * Histogram buckets of the timers and summaries are configured with {@code management.metrics.distribution}.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotesMetrics {
+
+  public static final String SERVICE_OPERATIONS_METRIC = "notes.service.operations";
+  public static final String PAGE_SIZE_METRIC = "notes.collection.page.size";
+  public static final String TOTAL_RECORDS_METRIC = "notes.collection.total.records";
+  public static final String USERS_CLIENT_METRIC = "notes.users.client.requests";
+  public static final String USERS_CLIENT_ERRORS_METRIC = "notes.users.client.errors";
+  public static final String SANITIZE_METRIC = "notes.content.sanitize";
+  public static final String SQL_STATEMENTS_METRIC = "notes.request.sql.statements";
+  public static final String SQL_TIME_METRIC = "notes.request.sql.time";
+  public static final String SQL_BUDGET_EXCEEDED_METRIC = "notes.request.sql.budget.exceeded";
+
+  private static final String TENANT_TAG = "tenant";
+  private static final String SERVICE_TAG = "service";
+  private static final String OPERATION_TAG = "operation";
+  private static final String OUTCOME_TAG = "outcome";
+  private static final String EXCEPTION_TAG = "exception";
+  private static final String COLLECTION_TAG = "collection";
+  private static final String ENDPOINT_TAG = "endpoint";
+  private static final String SUCCESS = "success";
+  private static final String ERROR = "error";
+  private static final String NONE = "none";
+
+  private final MeterRegistry meterRegistry;
+  private final FolioExecutionContext context;
+
+  public Timer.Sample startTimer() {
+    return Timer.start(meterRegistry);
+  }
+
+  /**
+   * Stops the sample of a service operation, the outcome is an error if the operation threw an exception.
+   */
+  public void recordOperation(Timer.Sample sample, String service, String operation, Throwable error) {
+    sample.stop(Timer.builder(SERVICE_OPERATIONS_METRIC)
+      .tag(TENANT_TAG, tenant())
+      .tag(SERVICE_TAG, service)
+      .tag(OPERATION_TAG, operation)
+      .tag(OUTCOME_TAG, error == null ? SUCCESS : ERROR)
+      .tag(EXCEPTION_TAG, error == null ? NONE : error.getClass().getSimpleName())
+      .register(meterRegistry));
+  }
+
+  /**
+   * Records the size of a returned page and the total number of records when it was counted.
+   */
+  public void recordPage(String collection, int pageSize, Integer totalRecords) {
+    DistributionSummary.builder(PAGE_SIZE_METRIC)
+      .tag(TENANT_TAG, tenant())
+      .tag(COLLECTION_TAG, collection)
+      .register(meterRegistry)
+      .record(pageSize);
+    if (totalRecords != null) {
+      DistributionSummary.builder(TOTAL_RECORDS_METRIC)
+        .tag(TENANT_TAG, tenant())
+        .tag(COLLECTION_TAG, collection)
+        .register(meterRegistry)
+        .record(totalRecords);
+    }
+  }
+
+  /**
+   * Times a mod-users call and counts its errors by exception, the exception is rethrown.
+   */
+  public <T> T timeUsersClient(String operation, Supplier<T> call) {
+    var sample = Timer.start(meterRegistry);
+    var outcome = SUCCESS;
+    try {
+      return call.get();
+    } catch (RuntimeException e) {
+      outcome = ERROR;
+      Counter.builder(USERS_CLIENT_ERRORS_METRIC)
+        .tag(TENANT_TAG, tenant())
+        .tag(OPERATION_TAG, operation)
+        .tag(EXCEPTION_TAG, e.getClass().getSimpleName())
+        .register(meterRegistry)
+        .increment();
+      throw e;
+    } finally {
+      sample.stop(Timer.builder(USERS_CLIENT_METRIC)
+        .tag(TENANT_TAG, tenant())
+        .tag(OPERATION_TAG, operation)
+        .tag(OUTCOME_TAG, outcome)
+        .register(meterRegistry));
+    }
+  }
+
+  public <T> T timeSanitizing(Supplier<T> sanitizing) {
+    return Timer.builder(SANITIZE_METRIC)
+      .tag(TENANT_TAG, tenant())
+      .register(meterRegistry)
+      .record(sanitizing);
+  }
+
+  /**
+   * Records SQL statements and JDBC time of a request, the tenant is passed because the Folio context
+   * is not available outside of request handling.
+   */
+  public void recordRequestSql(String tenant, String endpoint, SqlStatementProfile profile, boolean overBudget) {
+    var tenantTag = Objects.requireNonNullElse(tenant, NONE);
+    DistributionSummary.builder(SQL_STATEMENTS_METRIC)
+      .tag(TENANT_TAG, tenantTag)
+      .tag(ENDPOINT_TAG, endpoint)
+      .register(meterRegistry)
+      .record(profile.getStatements());
+    Timer.builder(SQL_TIME_METRIC)
+      .tag(TENANT_TAG, tenantTag)
+      .tag(ENDPOINT_TAG, endpoint)
+      .register(meterRegistry)
+      .record(profile.getJdbcTime());
+    if (overBudget) {
+      Counter.builder(SQL_BUDGET_EXCEEDED_METRIC)
+        .tag(TENANT_TAG, tenantTag)
+        .tag(ENDPOINT_TAG, endpoint)
+        .register(meterRegistry)
+        .increment();
+    }
+  }
+
+  private String tenant() {
+    return Objects.requireNonNullElse(context.getTenantId(), NONE);
+  }
+}
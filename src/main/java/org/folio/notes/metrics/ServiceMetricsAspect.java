@@ -0,0 +1,58 @@
+package org.folio.notes.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.folio.notes.domain.dto.NoteCollection;
+import org.folio.notes.domain.dto.NoteTypeCollection;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every operation of the notes and note types services and records page sizes of returned collections.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+  private static final String NOTES_SERVICE = "NotesService";
+  private static final String NOTE_TYPES_SERVICE = "NoteTypesService";
+  private static final String NOTES_COLLECTION = "notes";
+  private static final String NOTE_TYPES_COLLECTION = "note-types";
+
+  private final NotesMetrics metrics;
+
+  @Around("execution(* org.folio.notes.service.NotesService.*(..))")
+  public Object timeNotesOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+    return timeOperation(NOTES_SERVICE, joinPoint);
+  }
+
+  @Around("execution(* org.folio.notes.service.NoteTypesService.*(..))")
+  public Object timeNoteTypesOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+    return timeOperation(NOTE_TYPES_SERVICE, joinPoint);
+  }
+
+  private Object timeOperation(String service, ProceedingJoinPoint joinPoint) throws Throwable {
+    var sample = metrics.startTimer();
+    Throwable error = null;
+    try {
+      var result = joinPoint.proceed();
+      recordPage(result);
+      return result;
+    } catch (Throwable e) {
+      error = e;
+      throw e;
+    } finally {
+      metrics.recordOperation(sample, service, joinPoint.getSignature().getName(), error);
+    }
+  }
+
+  private void recordPage(Object result) {
+    if (result instanceof NoteCollection notes) {
+      metrics.recordPage(NOTES_COLLECTION, notes.getNotes().size(), notes.getTotalRecords());
+    } else if (result instanceof NoteTypeCollection noteTypes) {
+      metrics.recordPage(NOTE_TYPES_COLLECTION, noteTypes.getNoteTypes().size(), noteTypes.getTotalRecords());
+    }
+  }
+}
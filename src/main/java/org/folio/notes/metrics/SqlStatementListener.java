@@ -0,0 +1,47 @@
+package org.folio.notes.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds statements prepared by a Hibernate session and their execution time to the profile of the current request.
+ * Hibernate creates a listener for each session, it is registered with {@code hibernate.session.events.auto}.
+ */
+public class SqlStatementListener implements SessionEventListener {
+
+  private long executionStart;
+
+  @Override
+  public void jdbcPrepareStatementStart() {
+    var profile = SqlStatementProfile.current();
+    if (profile != null) {
+      profile.addStatement();
+    }
+  }
+
+  @Override
+  public void jdbcExecuteStatementStart() {
+    executionStart = System.nanoTime();
+  }
+
+  @Override
+  public void jdbcExecuteStatementEnd() {
+    addExecutionTime();
+  }
+
+  @Override
+  public void jdbcExecuteBatchStart() {
+    executionStart = System.nanoTime();
+  }
+
+  @Override
+  public void jdbcExecuteBatchEnd() {
+    addExecutionTime();
+  }
+
+  private void addExecutionTime() {
+    var profile = SqlStatementProfile.current();
+    if (profile != null) {
+      profile.addJdbcNanos(System.nanoTime() - executionStart);
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package org.folio.notes.metrics;
+
+import jakarta.servlet.ServletRequest;
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * SQL statements and JDBC time of one request. The profile is bound to the request thread while the request
+ * is handled, statements executed on other threads are not counted.
+ */
+@Getter
+public class SqlStatementProfile {
+
+  private static final String REQUEST_ATTRIBUTE = SqlStatementProfile.class.getName();
+  private static final ThreadLocal<SqlStatementProfile> CURRENT = new ThreadLocal<>();
+
+  private int statements;
+  private long jdbcNanos;
+
+  /**
+   * Binds a new profile to the current thread and to the request.
+   */
+  public static SqlStatementProfile start(ServletRequest request) {
+    var profile = new SqlStatementProfile();
+    CURRENT.set(profile);
+    request.setAttribute(REQUEST_ATTRIBUTE, profile);
+    return profile;
+  }
+
+  public static void stop() {
+    CURRENT.remove();
+  }
+
+  /**
+   * Returns the profile of a completed request, {@code null} if the request was not profiled.
+   */
+  public static SqlStatementProfile of(ServletRequest request) {
+    return (SqlStatementProfile) request.getAttribute(REQUEST_ATTRIBUTE);
+  }
+
+  public Duration getJdbcTime() {
+    return Duration.ofNanos(jdbcNanos);
+  }
+
+  static SqlStatementProfile current() {
+    return CURRENT.get();
+  }
+
+  void addStatement() {
+    statements++;
+  }
+
+  void addJdbcNanos(long nanos) {
+    jdbcNanos += nanos;
+  }
+}
@@ -0,0 +1,60 @@
+package org.folio.notes.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.folio.notes.config.properties.SqlProfilerProperties;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Profiles SQL statements of each request and logs a warning when a request executes more statements than
+ * the budget, which usually means that an association is loaded for every record of a page.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlStatementProfilingFilter extends OncePerRequestFilter {
+
+  private static final String UNMATCHED_PATTERN = "UNKNOWN";
+
+  private final SqlProfilerProperties properties;
+  private final NotesMetrics metrics;
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !properties.isEnabled();
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+    throws ServletException, IOException {
+    var profile = SqlStatementProfile.start(request);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      SqlStatementProfile.stop();
+      record(request, profile);
+    }
+  }
+
+  private void record(HttpServletRequest request, SqlStatementProfile profile) {
+    var pattern = Objects.toString(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE),
+      UNMATCHED_PATTERN);
+    var endpoint = request.getMethod() + " " + pattern;
+    var overBudget = profile.getStatements() > properties.getStatementBudget();
+    if (overBudget) {
+      log.warn("record:: SQL statement budget exceeded by {} {}: {} statements in {} ms, budget: {}",
+        request.getMethod(), request.getRequestURI(), profile.getStatements(), profile.getJdbcTime().toMillis(),
+        properties.getStatementBudget());
+    }
+    metrics.recordRequestSql(request.getHeader(XOkapiHeaders.TENANT), endpoint, profile, overBudget);
+  }
+}
@@ -0,0 +1,15 @@
+package org.folio.notes.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface NoteExportService {
+
+  /**
+   * Validates the parameters and returns the body that writes the notes as newline delimited JSON
+   * when the response is written.
+   *
+   * @throws IllegalArgumentException if only one of objectType and objectId is given
+   * @throws org.folio.spring.cql.CqlQueryValidationException if the CQL query is invalid
+   */
+  StreamingResponseBody exportNotes(String domain, String objectType, String objectId, String query);
+}
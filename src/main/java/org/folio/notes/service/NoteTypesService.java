@@ -3,6 +3,7 @@ package org.folio.notes.service;
 import java.util.UUID;
 import org.folio.notes.domain.dto.NoteType;
 import org.folio.notes.domain.dto.NoteTypeCollection;
+import org.folio.notes.domain.entity.projection.NoteTypeVersion;
 
 public interface NoteTypesService {
 
@@ -10,9 +11,13 @@ public interface NoteTypesService {
 
   NoteType getNoteType(UUID id);
 
+  NoteTypeVersion getNoteTypeVersion(UUID id);
+
+  String getNoteTypeVersions();
+
   NoteType createNoteType(NoteType entity);
 
-  void updateNoteType(UUID id, NoteType entity);
+  void updateNoteType(UUID id, NoteType entity, Integer expectedVersion);
 
   void removeNoteType(UUID id);
 
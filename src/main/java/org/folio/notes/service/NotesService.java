@@ -5,26 +5,44 @@ import java.util.UUID;
 import org.folio.notes.domain.dto.LinkStatusFilter;
 import org.folio.notes.domain.dto.Note;
 import org.folio.notes.domain.dto.NoteCollection;
+import org.folio.notes.domain.dto.NoteLinkCountCollection;
+import org.folio.notes.domain.dto.NoteLinkCountsRequest;
 import org.folio.notes.domain.dto.NoteLinkUpdateCollection;
+import org.folio.notes.domain.dto.NotePopUpCollection;
 import org.folio.notes.domain.dto.NotesOrderBy;
+import org.folio.notes.domain.dto.NotesSearchMode;
 import org.folio.notes.domain.dto.OrderDirection;
+import org.folio.notes.domain.dto.PopUpContext;
 
 public interface NotesService {
 
-  NoteCollection getNoteCollection(String query, Integer offset, Integer limit);
+  NoteCollection getNoteCollection(String query, Integer offset, Integer limit, String cursor, String totalRecords);
 
   NoteCollection getNoteCollection(String domain, String objectType, String objectId, String search,
-                                   List<String> noteType,
+                                   NotesSearchMode searchMode, List<String> noteType,
                                    LinkStatusFilter status, NotesOrderBy orderBy, OrderDirection order, Integer offset,
-                                   Integer limit);
+                                   Integer limit, String cursor, String totalRecords);
+
+  NoteLinkCountCollection countNotesByLinks(NoteLinkCountsRequest request);
+
+  NotePopUpCollection getPopUpNotes(String objectType, String objectId, PopUpContext context);
 
   Note getNote(UUID id);
 
+  /**
+   * Returns the note with only its version, the name of its note type and its links, which the note tag is built of.
+   */
+  Note getNoteVersion(UUID id);
+
   Note createNote(Note note);
 
   void updateLinks(String objectType, String objectId, NoteLinkUpdateCollection noteLinkUpdateCollection);
 
-  void updateNote(UUID id, Note note);
+  void deleteLinks(String objectType, String objectId);
+
+  void deleteLinksAsync(String objectType, String objectId);
+
+  void updateNote(UUID id, Note note, Integer expectedVersion);
 
   void deleteNote(UUID id);
 }
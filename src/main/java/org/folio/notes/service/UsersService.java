@@ -1,5 +1,7 @@
 package org.folio.notes.service;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.folio.notes.domain.dto.User;
@@ -7,4 +9,11 @@ import org.folio.notes.domain.dto.User;
 public interface UsersService {
 
   Optional<User> getUser(UUID id);
+
+  /**
+   * Resolves users by ids, requesting all of them that are not cached yet at once.
+   *
+   * @return found users by id, ids of missing users are absent from the map
+   */
+  Map<UUID, User> getUsers(Collection<UUID> ids);
 }
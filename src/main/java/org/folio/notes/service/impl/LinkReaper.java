@@ -0,0 +1,112 @@
+package org.folio.notes.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.folio.notes.config.properties.LinkReaperProperties;
+import org.folio.notes.domain.repository.LinkRepository;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Deletes links that are not assigned to any note, such links are left when the last note of an object
+ * is unassigned or deleted. Links are locked with SKIP LOCKED and deleted in small batches, each in its own
+ * transaction, so the reaper neither waits for nor breaks concurrent link upserts.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LinkReaper {
+
+  private static final String DELETED_LINKS_METRIC = "notes.links.reaper.deleted";
+  private static final String RUN_DURATION_METRIC = "notes.links.reaper.duration";
+  private static final String TENANT_TAG = "tenant";
+  private static final String SCHEMA_PROBE_TENANT = "tenant";
+
+  private final LinkReaperProperties properties;
+  private final LinkRepository linkRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final FolioModuleMetadata moduleMetadata;
+  private final PlatformTransactionManager transactionManager;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Runs with the interval of {@link LinkReaperProperties}, so the interval is bound the same way as other properties.
+   */
+  @Scheduled(fixedDelayString = "#{@linkReaperProperties.interval.toMillis()}",
+             initialDelayString = "#{@linkReaperProperties.interval.toMillis()}")
+  public void deleteUnassignedLinks() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    for (var tenant : findTenants()) {
+      try {
+        deleteUnassignedLinks(tenant);
+      } catch (DataAccessException e) {
+        log.warn("deleteUnassignedLinks:: failed to delete unassigned links for tenant: {}", tenant, e);
+      }
+    }
+  }
+
+  /**
+   * Deletes unassigned links of the tenant until a batch is not full.
+   *
+   * @return number of deleted links
+   */
+  public int deleteUnassignedLinks(String tenant) {
+    log.debug("deleteUnassignedLinks:: trying to delete unassigned links for tenant: {}", tenant);
+    var sample = Timer.start(meterRegistry);
+    var deleted = 0;
+    try (var ignored = new FolioExecutionContextSetter(moduleMetadata, tenantHeaders(tenant))) {
+      var transactionTemplate = new TransactionTemplate(transactionManager);
+      int batchDeleted;
+      do {
+        batchDeleted = Objects.requireNonNull(transactionTemplate.execute(status -> deleteBatch()));
+        deleted += batchDeleted;
+      } while (batchDeleted == properties.getBatchSize());
+    } finally {
+      sample.stop(Timer.builder(RUN_DURATION_METRIC).tag(TENANT_TAG, tenant).register(meterRegistry));
+      Counter.builder(DELETED_LINKS_METRIC).tag(TENANT_TAG, tenant).register(meterRegistry).increment(deleted);
+    }
+    log.info("deleteUnassignedLinks:: deleted {} unassigned links for tenant: {}", deleted, tenant);
+    return deleted;
+  }
+
+  /**
+   * Locked links can't get new notes until the transaction ends, the delete statement takes a new snapshot
+   * and skips links assigned by transactions committed after the links were selected.
+   */
+  private int deleteBatch() {
+    var linkIds = linkRepository.lockUnassignedIds(properties.getBatchSize());
+    return linkIds.isEmpty() ? 0 : linkRepository.deleteUnassigned(linkIds);
+  }
+
+  /**
+   * Finds tenants by their module schemas, the schema name is the tenant id followed by a module suffix.
+   */
+  private List<String> findTenants() {
+    var schemaSuffix = moduleMetadata.getDBSchemaName(SCHEMA_PROBE_TENANT).substring(SCHEMA_PROBE_TENANT.length());
+    return jdbcTemplate.queryForList("SELECT schema_name FROM information_schema.schemata WHERE schema_name LIKE ?",
+        String.class, "%" + schemaSuffix).stream()
+      .filter(schema -> schema.endsWith(schemaSuffix) && schema.length() > schemaSuffix.length())
+      .map(schema -> schema.substring(0, schema.length() - schemaSuffix.length()))
+      .toList();
+  }
+
+  private static Map<String, Collection<String>> tenantHeaders(String tenant) {
+    return Map.of(XOkapiHeaders.TENANT, List.of(tenant));
+  }
+}
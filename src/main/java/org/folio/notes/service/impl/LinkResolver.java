@@ -0,0 +1,42 @@
+package org.folio.notes.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.folio.notes.domain.entity.LinkEntity;
+import org.folio.notes.domain.repository.LinkRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves links to persisted link entities, creating missing ones. All links are resolved with one upsert,
+ * so concurrent writers of the same link never fail on the unique constraint.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LinkResolver {
+
+  private final LinkRepository linkRepository;
+
+  public Set<LinkEntity> resolve(Collection<LinkEntity> links) {
+    if (links.isEmpty()) {
+      return new HashSet<>();
+    }
+    var distinctLinks = new ArrayList<>(new LinkedHashSet<>(links));
+    var objectIds = distinctLinks.stream().map(LinkEntity::getObjectId).toArray(String[]::new);
+    var objectTypes = distinctLinks.stream().map(LinkEntity::getObjectType).toArray(String[]::new);
+    log.debug("resolve:: resolving {} links", distinctLinks.size());
+    var linkIds = linkRepository.upsertLinks(objectIds, objectTypes);
+    return new HashSet<>(linkRepository.findAllById(linkIds));
+  }
+
+  public UUID resolveId(String objectId, String objectType) {
+    log.debug("resolveId:: resolving link by objectId: {}, objectType: {}", objectId, objectType);
+    return linkRepository.upsertLinks(new String[] {objectId}, new String[] {objectType}).getFirst();
+  }
+}
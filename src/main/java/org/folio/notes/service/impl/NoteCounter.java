@@ -0,0 +1,96 @@
+package org.folio.notes.service.impl;
+
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.notes.domain.dto.TotalRecordsStrategy;
+import org.folio.notes.domain.entity.NoteEntity;
+import org.folio.notes.domain.repository.NoteRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+/**
+ * Calculates totalRecords of a note collection with the requested strategy.
+ * A count that stays below its cap is exact and is reported as such.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoteCounter {
+
+  private static final String CAPPED_PREFIX = TotalRecordsStrategy.CAPPED.getValue() + ":";
+  private static final Pattern ALL_RECORDS_QUERY =
+    Pattern.compile("^\\s*\\(?\\s*cql\\.allRecords\\s*=\\s*1\\s*\\)?(\\s+sortBy\\s.*)?$", Pattern.CASE_INSENSITIVE);
+
+  private final NoteRepository noteRepository;
+  @Value("${folio.notes.response.estimate-threshold:1000}")
+  private int estimateThreshold;
+
+  /**
+   * Parses the totalRecords request parameter: {@code exact}, {@code estimated}, {@code none} or {@code capped:N}.
+   */
+  public static Option parseOption(String totalRecords) {
+    if (StringUtils.isBlank(totalRecords)) {
+      return new Option(TotalRecordsStrategy.EXACT, 0);
+    }
+    if (totalRecords.startsWith(CAPPED_PREFIX)) {
+      return new Option(TotalRecordsStrategy.CAPPED, Integer.parseInt(totalRecords.substring(CAPPED_PREFIX.length())));
+    }
+    return new Option(TotalRecordsStrategy.fromValue(totalRecords), 0);
+  }
+
+  public Count count(Option option, Specification<NoteEntity> spec) {
+    return count(option, false, () -> noteRepository.count(spec), cap -> noteRepository.countIds(spec, (int) cap));
+  }
+
+  public Count count(Option option, String cql) {
+    return count(option, ALL_RECORDS_QUERY.matcher(cql).matches(), () -> noteRepository.count(cql),
+      cap -> noteRepository.countByCql(cql, (int) cap));
+  }
+
+  private Count count(Option option, boolean unfiltered, LongSupplier exactCount, LongUnaryOperator cappedCount) {
+    log.debug("count:: counting notes with strategy: {}", option);
+    return switch (option.strategy()) {
+      case NONE -> new Count(null, TotalRecordsStrategy.NONE);
+      case EXACT -> new Count(exactCount.getAsLong(), TotalRecordsStrategy.EXACT);
+      case CAPPED -> cappedCount(cappedCount, option.cap());
+      case ESTIMATED -> unfiltered ? estimatedCount(exactCount) : cappedCount(cappedCount, estimateThreshold);
+    };
+  }
+
+  private Count cappedCount(LongUnaryOperator cappedCount, int cap) {
+    var count = cappedCount.applyAsLong(cap);
+    return new Count(count, count < cap ? TotalRecordsStrategy.EXACT : TotalRecordsStrategy.CAPPED);
+  }
+
+  /**
+   * Uses the table statistics, small or never analyzed tables are counted exactly.
+   */
+  private Count estimatedCount(LongSupplier exactCount) {
+    var estimate = noteRepository.estimateCount();
+    if (estimate < estimateThreshold) {
+      return new Count(exactCount.getAsLong(), TotalRecordsStrategy.EXACT);
+    }
+    return new Count(estimate, TotalRecordsStrategy.ESTIMATED);
+  }
+
+  /**
+   * Requested way of calculating totalRecords.
+   *
+   * @param strategy requested strategy
+   * @param cap      maximum number of counted records for the capped strategy
+   */
+  public record Option(TotalRecordsStrategy strategy, int cap) { }
+
+  /**
+   * Calculated totalRecords.
+   *
+   * @param totalRecords number of records, {@code null} if it was not counted
+   * @param strategy     strategy used to calculate the number
+   */
+  public record Count(Long totalRecords, TotalRecordsStrategy strategy) { }
+}
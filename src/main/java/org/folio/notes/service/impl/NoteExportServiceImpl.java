@@ -0,0 +1,114 @@
+package org.folio.notes.service.impl;
+
+import static org.folio.notes.domain.repository.NoteRepository.domainEq;
+import static org.folio.notes.domain.repository.NoteRepository.linkIs;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaQuery;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.folio.notes.domain.entity.NoteEntity;
+import org.folio.notes.domain.mapper.NoteCollectionMapper;
+import org.folio.notes.domain.repository.NoteRepository;
+import org.folio.notes.service.NoteExportService;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Exports notes as newline delimited JSON. Notes are read with a server-side cursor and written in batches,
+ * the persistence context is cleared after every batch, so memory use doesn't depend on the number of notes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NoteExportServiceImpl implements NoteExportService {
+
+  private static final int LINE_SEPARATOR = '\n';
+
+  private final NoteRepository noteRepository;
+  private final NoteCollectionMapper noteCollectionMapper;
+  private final JsonMapper jsonMapper;
+  private final EntityManager entityManager;
+  private final PlatformTransactionManager transactionManager;
+  private final FolioExecutionContext context;
+  @Value("${folio.notes.export.batch-size:500}")
+  private int batchSize;
+
+  @Override
+  public StreamingResponseBody exportNotes(String domain, String objectType, String objectId, String query) {
+    log.debug("exportNotes:: trying to export notes by domain: {}, objectType: {}, objectId: {}, query: {}",
+      domain, objectType, objectId, query);
+    var notesQuery = noteRepository.createCqlQuery(query, exportSpecification(domain, objectType, objectId));
+    var folioContext = (FolioExecutionContext) context.getInstance();
+    return outputStream -> {
+      try (var ignored = new FolioExecutionContextSetter(folioContext)) {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        var exported = transactionTemplate.execute(status -> export(notesQuery, outputStream));
+        log.info("exportNotes:: exported {} notes by domain: {}, objectType: {}, objectId: {}, query: {}",
+          exported, domain, objectType, objectId, query);
+      }
+    };
+  }
+
+  private Specification<NoteEntity> exportSpecification(String domain, String objectType, String objectId) {
+    if ((objectType == null) != (objectId == null)) {
+      throw new IllegalArgumentException("objectType and objectId must be used together");
+    }
+    var spec = domain == null ? Specification.<NoteEntity>unrestricted() : domainEq(domain);
+    return objectType == null ? spec : spec.and(linkIs(objectId, objectType));
+  }
+
+  private int export(CriteriaQuery<NoteEntity> notesQuery, OutputStream outputStream) {
+    var exported = 0;
+    var batch = new ArrayList<NoteEntity>(batchSize);
+    try (var notes = noteRepository.stream(notesQuery, batchSize)) {
+      var iterator = notes.iterator();
+      while (iterator.hasNext()) {
+        batch.add(iterator.next());
+        if (batch.size() == batchSize || !iterator.hasNext()) {
+          writeBatch(batch, outputStream);
+          exported += batch.size();
+          batch.clear();
+        }
+      }
+    }
+    return exported;
+  }
+
+  /**
+   * Fetches links of the batch at once and writes the notes in the order they were read,
+   * notes deleted in the meantime are skipped.
+   */
+  private void writeBatch(List<NoteEntity> batch, OutputStream outputStream) {
+    var notesById = noteRepository.findAllByIdIn(batch.stream().map(NoteEntity::getId).toList()).stream()
+      .collect(Collectors.toMap(NoteEntity::getId, Function.identity()));
+    try {
+      for (var note : batch) {
+        var hydratedNote = notesById.get(note.getId());
+        if (hydratedNote != null) {
+          outputStream.write(jsonMapper.writeValueAsBytes(noteCollectionMapper.toDto(hydratedNote)));
+          outputStream.write(LINE_SEPARATOR);
+        }
+      }
+      outputStream.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    entityManager.clear();
+  }
+}
@@ -0,0 +1,78 @@
+package org.folio.notes.service.impl;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.folio.notes.domain.dto.LinkStatus;
+import org.folio.notes.domain.dto.NoteLinkUpdate;
+import org.folio.notes.domain.repository.LinkRepository;
+import org.folio.notes.domain.repository.NoteRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies link status changes for a batch of notes, or for all notes of a link, with set-based statements
+ * instead of loading and saving every note separately.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoteLinksBulkUpdater {
+
+  private final NoteRepository noteRepository;
+  private final LinkRepository linkRepository;
+
+  /**
+   * Assigns or unassigns the link for the given notes. Ids of non-existing notes are ignored,
+   * for a duplicated id the first status wins. Unassigned notes that are left without links are deleted.
+   *
+   * @return counts of the changed rows
+   */
+  public Result update(UUID linkId, List<NoteLinkUpdate> linkUpdates) {
+    var statusesByNoteId = linkUpdates.stream()
+      .collect(Collectors.toMap(NoteLinkUpdate::getId, NoteLinkUpdate::getStatus, (first, second) -> first,
+        LinkedHashMap::new));
+    var assignIds = noteIdsWithStatus(statusesByNoteId, LinkStatus.ASSIGNED);
+    var unassignIds = noteIdsWithStatus(statusesByNoteId, LinkStatus.UNASSIGNED);
+    log.debug("update:: assigning link {} to {} and unassigning from {} notes",
+      linkId, assignIds.length, unassignIds.length);
+
+    var assigned = assignIds.length == 0 ? 0 : noteRepository.assignLink(linkId, assignIds);
+    var unassigned = unassignIds.length == 0 ? 0 : noteRepository.unassignLink(linkId, unassignIds);
+    var deletedNotes = unassignIds.length == 0 ? 0 : noteRepository.deleteUnlinked(unassignIds);
+    return new Result(assigned, unassigned, deletedNotes);
+  }
+
+  /**
+   * Unassigns the link from all notes and deletes the link. Notes that have no other links are deleted
+   * before the link is unassigned, so they are found without reading the note ids.
+   *
+   * @return counts of the changed rows
+   */
+  public Result delete(UUID linkId) {
+    log.debug("delete:: deleting link {} from all notes", linkId);
+    var deletedNotes = noteRepository.deleteLinkedOnlyTo(linkId);
+    var unassigned = noteRepository.unassignLink(linkId);
+    linkRepository.deleteAllByIdInBatch(List.of(linkId));
+    return new Result(0, deletedNotes + unassigned, deletedNotes);
+  }
+
+  private UUID[] noteIdsWithStatus(Map<UUID, LinkStatus> statusesByNoteId, LinkStatus status) {
+    return statusesByNoteId.entrySet().stream()
+      .filter(entry -> entry.getValue() == status)
+      .map(Map.Entry::getKey)
+      .toArray(UUID[]::new);
+  }
+
+  /**
+   * Result of a bulk link update.
+   *
+   * @param assigned     number of notes the link was added to
+   * @param unassigned   number of notes the link was removed from
+   * @param deletedNotes number of notes deleted because no links were left
+   */
+  public record Result(int assigned, int unassigned, int deletedNotes) { }
+}
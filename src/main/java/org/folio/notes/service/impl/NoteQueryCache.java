@@ -0,0 +1,133 @@
+package org.folio.notes.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.folio.notes.config.properties.QueryCacheProperties;
+import org.folio.notes.datasource.ReplicaRoutingDataSource;
+import org.folio.notes.domain.dto.Note;
+import org.folio.notes.domain.dto.NoteCollection;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Results of CQL note queries per tenant. Keys carry the generation of the tenant, which is incremented after
+ * the transaction of every write of notes, links or note types is committed, so results of older generations
+ * are no longer read and are left to the size-based eviction. A read that loaded notes before the commit keeps
+ * the generation it started with and cannot cache them under the new one. Results are loaded from the primary
+ * database even when reads are routed to a replica, otherwise a read started after the commit could cache
+ * notes the replica hasn't caught up with under the new generation.
+ * Generations are local to the module instance, writes on other instances are seen once the result expires.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoteQueryCache {
+
+  private static final Pattern QUOTED_OR_WHITESPACE = Pattern.compile("\"(?:[^\"\\\\]|\\\\.)*\"|\\s+");
+  private static final int ENTRY_OVERHEAD = 256;
+  private static final int NOTE_OVERHEAD = 1024;
+  private static final int LINK_OVERHEAD = 128;
+
+  private final Cache<QueryKey, NoteCollection> noteQueryCache;
+  private final QueryCacheProperties properties;
+  private final FolioExecutionContext context;
+  private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the cached result of the query, concurrent loads of the same entry are coalesced into one and read
+   * from the primary database. The loader is called directly when the cache is disabled.
+   */
+  public NoteCollection get(String query, Integer offset, Integer limit, String cursor, String totalRecords,
+                            Supplier<NoteCollection> loader) {
+    if (!properties.isEnabled()) {
+      return loader.get();
+    }
+    var tenantId = context.getTenantId();
+    var key = new QueryKey(tenantId, generation(tenantId).get(), normalize(query), offset, limit, cursor,
+      totalRecords);
+    return noteQueryCache.get(key, ignored -> ReplicaRoutingDataSource.onPrimary(loader));
+  }
+
+  /**
+   * Increments the generation of the current tenant after the transaction is committed.
+   */
+  public void invalidate() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    var tenantId = context.getTenantId();
+    runAfterCommit(() -> {
+      var generation = generation(tenantId).incrementAndGet();
+      log.debug("invalidate:: query results of tenant: {} moved to generation: {}", tenantId, generation);
+    });
+  }
+
+  /**
+   * Estimated memory of a cached result in bytes, used as the weight of the entry.
+   */
+  public static int weigh(QueryKey key, NoteCollection notes) {
+    var weight = ENTRY_OVERHEAD + length(key.query()) * Character.BYTES;
+    for (var note : notes.getNotes()) {
+      weight += weigh(note);
+    }
+    return weight;
+  }
+
+  /**
+   * Collapses whitespace outside of quoted terms, so that formatting of a query does not split its entries.
+   */
+  static String normalize(String query) {
+    if (query == null) {
+      return "";
+    }
+    var matcher = QUOTED_OR_WHITESPACE.matcher(query.strip());
+    var result = new StringBuilder();
+    while (matcher.find()) {
+      var quoted = matcher.group().charAt(0) == '"';
+      matcher.appendReplacement(result, quoted ? Matcher.quoteReplacement(matcher.group()) : " ");
+    }
+    return matcher.appendTail(result).toString();
+  }
+
+  private AtomicLong generation(String tenantId) {
+    return generations.computeIfAbsent(tenantId, ignored -> new AtomicLong());
+  }
+
+  private static int weigh(Note note) {
+    var links = note.getLinks() == null ? 0 : note.getLinks().size();
+    return NOTE_OVERHEAD + (length(note.getTitle()) + length(note.getContent())) * Character.BYTES
+           + links * LINK_OVERHEAD;
+  }
+
+  private static int length(String value) {
+    return value == null ? 0 : value.length();
+  }
+
+  private static void runAfterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  /**
+   * Cache key of a query result, namespaced by tenant and its generation.
+   */
+  public record QueryKey(String tenantId, long generation, String query, Integer offset, Integer limit,
+                         String cursor, String totalRecords) { }
+}
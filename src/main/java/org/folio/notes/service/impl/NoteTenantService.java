@@ -4,6 +4,7 @@ import org.folio.notes.service.NoteTypesService;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.liquibase.FolioSpringLiquibase;
 import org.folio.spring.service.TenantService;
+import org.folio.tenant.domain.dto.TenantAttributes;
 import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
@@ -13,13 +14,21 @@ import org.springframework.stereotype.Service;
 public class NoteTenantService extends TenantService {
 
   private final NoteTypesService noteTypesService;
+  private final UserSnapshotService userSnapshotService;
 
   public NoteTenantService(JdbcTemplate jdbcTemplate,
                            FolioExecutionContext context,
                            FolioSpringLiquibase folioSpringLiquibase,
-                           NoteTypesService noteTypesService) {
+                           NoteTypesService noteTypesService,
+                           UserSnapshotService userSnapshotService) {
     super(jdbcTemplate, context, folioSpringLiquibase);
     this.noteTypesService = noteTypesService;
+    this.userSnapshotService = userSnapshotService;
+  }
+
+  @Override
+  public void afterTenantUpdate(TenantAttributes tenantAttributes) {
+    userSnapshotService.backfillSnapshotsAsync();
   }
 
   @Override
@@ -1,5 +1,6 @@
 package org.folio.notes.service.impl;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -10,6 +11,7 @@ import org.folio.notes.domain.dto.NoteType;
 import org.folio.notes.domain.dto.NoteTypeCollection;
 import org.folio.notes.domain.entity.NoteTypeEntity;
 import org.folio.notes.domain.entity.projection.NoteTypeCount;
+import org.folio.notes.domain.entity.projection.NoteTypeVersion;
 import org.folio.notes.domain.mapper.NoteTypesMapper;
 import org.folio.notes.domain.repository.NoteTypesRepository;
 import org.folio.notes.exception.NoteTypeNotFoundException;
@@ -18,27 +20,34 @@ import org.folio.notes.service.NoteTypesService;
 import org.folio.notes.util.JpaUtils;
 import org.folio.spring.data.OffsetRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NoteTypesServiceImpl implements NoteTypesService {
 
+  private static final String NOTE_TYPE_RESOURCE_NAME = "Note type";
+
   private final NoteTypesRepository repository;
   private final NoteTypesMapper mapper;
   private final NoteTypesProperties noteTypesProperties;
+  private final NoteQueryCache noteQueryCache;
+  private final PopUpNotesCache popUpNotesCache;
 
+  @Transactional(readOnly = true)
   @Override
   public NoteTypeCollection getNoteTypeCollection(String query, Integer offset, Integer limit) {
     log.debug("getNoteTypeCollection:: trying to load note types by query: {}, offset: {}, limit: {}",
       query, offset, limit);
     var noteTypes = repository.findByCql(query, OffsetRequest.of(offset, limit));
-    var noteTypeUsage = getAllNoteTypeUsage();
+    var noteTypeUsage = getNoteTypesUsage(noteTypes.map(NoteTypeEntity::getId).toList());
     log.info("getNoteTypeCollection:: note types loaded by query: {}, offset: {}, limit: {}",
       query, offset, limit);
     return mapper.toDtoCollection(noteTypes, noteTypeUsage);
   }
 
+  @Transactional(readOnly = true)
   @Override
   public NoteType getNoteType(UUID id) {
     log.debug("getNoteType:: trying to load note type by id: {}", id);
@@ -55,35 +64,59 @@ public class NoteTypesServiceImpl implements NoteTypesService {
       });
   }
 
+  @Transactional(readOnly = true)
+  @Override
+  public NoteTypeVersion getNoteTypeVersion(UUID id) {
+    log.debug("getNoteTypeVersion:: trying to load version of note type by id: {}", id);
+    return repository.findNoteTypeVersion(id).orElseThrow(() -> notFound(id));
+  }
+
+  @Transactional(readOnly = true)
+  @Override
+  public String getNoteTypeVersions() {
+    log.debug("getNoteTypeVersions:: trying to load versions of note types");
+    return repository.findNoteTypeVersions();
+  }
+
+  @Transactional
   @Override
   public NoteType createNoteType(NoteType noteType) {
     log.debug("createNoteType:: trying to create note type with name: {}", noteType.getName());
     validateNoteTypeLimit();
-    NoteTypeEntity entity = repository.save(JpaUtils.initNewEntity(mapper.toEntity(noteType)));
+    NoteTypeEntity entity = repository.saveAndFlush(JpaUtils.initNewEntity(mapper.toEntity(noteType)));
     log.info("createNoteType:: created note type with name: {}", entity.getName());
     return mapper.toDto(entity);
   }
 
+  @Transactional
   @Override
-  public void updateNoteType(UUID id, NoteType entity) {
-    log.debug("updateNoteType:: trying to update note type with id: {}", id);
+  public void updateNoteType(UUID id, NoteType entity, Integer expectedVersion) {
+    log.debug("updateNoteType:: trying to update note type with id: {}, expected version: {}", id, expectedVersion);
     repository.findById(id).ifPresentOrElse(existedEntity -> {
-      repository.save(mapper.updateNoteType(entity, existedEntity));
+      JpaUtils.checkVersion(existedEntity, expectedVersion, NOTE_TYPE_RESOURCE_NAME);
+      repository.saveAndFlush(mapper.updateNoteType(entity, existedEntity));
+      noteQueryCache.invalidate();
+      popUpNotesCache.evictAll();
       log.info("updateNoteType:: updated note type with id: {}", id);
     },
         throwNotFoundById(id, "updateNoteType"));
   }
 
+  @Transactional
   @Override
   public void removeNoteType(UUID id) {
     log.debug("removeNoteType:: trying to remove note type with id: {}", id);
     repository.findById(id)
       .ifPresentOrElse(entity -> {
         repository.delete(entity);
+        repository.flush();
+        noteQueryCache.invalidate();
+        popUpNotesCache.evictAll();
         log.info("removeNoteType:: removed note type with id: {}", id);
       }, throwNotFoundById(id, "removeNoteType"));
   }
 
+  @Transactional
   @Override
   public void populateDefaultType() {
     if (repository.count() == 0) {
@@ -115,13 +148,16 @@ public class NoteTypesServiceImpl implements NoteTypesService {
     }
   }
 
-  private Map<UUID, Boolean> getAllNoteTypeUsage() {
-    return repository.findAllNoteTypesUsages().stream()
-      .collect(Collectors.toMap(NoteTypeCount::getTypeId, NoteTypeCount::getIsAssigned));
+  private Map<UUID, Long> getNoteTypesUsage(List<UUID> noteTypeIds) {
+    if (noteTypeIds.isEmpty()) {
+      return Map.of();
+    }
+    return repository.findNoteTypesUsages(noteTypeIds).stream()
+      .collect(Collectors.toMap(NoteTypeCount::getTypeId, NoteTypeCount::getNoteCount));
   }
 
-  private Map<UUID, Boolean> getNoteTypeUsage(UUID noteTypeId) {
+  private Map<UUID, Long> getNoteTypeUsage(UUID noteTypeId) {
     return repository.findNoteTypeUsage(noteTypeId).stream()
-      .collect(Collectors.toMap(NoteTypeCount::getTypeId, NoteTypeCount::getIsAssigned));
+      .collect(Collectors.toMap(NoteTypeCount::getTypeId, NoteTypeCount::getNoteCount));
   }
 }
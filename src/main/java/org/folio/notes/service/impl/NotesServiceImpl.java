@@ -2,45 +2,67 @@ package org.folio.notes.service.impl;
 
 import static org.folio.notes.domain.repository.NoteRepository.contentLike;
 import static org.folio.notes.domain.repository.NoteRepository.domainEq;
+import static org.folio.notes.domain.repository.NoteRepository.fullTextMatch;
 import static org.folio.notes.domain.repository.NoteRepository.linkIs;
 import static org.folio.notes.domain.repository.NoteRepository.linkIsNot;
 import static org.folio.notes.domain.repository.NoteRepository.typeNameIn;
+import static org.folio.notes.util.JpaUtils.checkVersion;
 import static org.folio.notes.util.JpaUtils.initNewEntity;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.folio.notes.domain.dto.LinkStatus;
+import org.folio.notes.domain.dto.Link;
 import org.folio.notes.domain.dto.LinkStatusFilter;
 import org.folio.notes.domain.dto.Note;
 import org.folio.notes.domain.dto.NoteCollection;
-import org.folio.notes.domain.dto.NoteLinkUpdate;
+import org.folio.notes.domain.dto.NoteLinkCount;
+import org.folio.notes.domain.dto.NoteLinkCountCollection;
+import org.folio.notes.domain.dto.NoteLinkCountsRequest;
 import org.folio.notes.domain.dto.NoteLinkUpdateCollection;
+import org.folio.notes.domain.dto.NotePopUp;
+import org.folio.notes.domain.dto.NotePopUpCollection;
 import org.folio.notes.domain.dto.NotesOrderBy;
+import org.folio.notes.domain.dto.NotesSearchMode;
 import org.folio.notes.domain.dto.OrderDirection;
+import org.folio.notes.domain.dto.PopUpContext;
+import org.folio.notes.domain.dto.TotalRecordsStrategy;
 import org.folio.notes.domain.entity.AuditableEntity_;
-import org.folio.notes.domain.entity.LinkEntity;
 import org.folio.notes.domain.entity.NoteEntity;
 import org.folio.notes.domain.entity.NoteEntity_;
+import org.folio.notes.domain.entity.UserSnapshot;
+import org.folio.notes.domain.entity.projection.LinkNoteCount;
+import org.folio.notes.domain.mapper.MetadataMapper;
 import org.folio.notes.domain.mapper.NoteCollectionMapper;
 import org.folio.notes.domain.mapper.NotesMapper;
 import org.folio.notes.domain.repository.LinkRepository;
+import org.folio.notes.domain.repository.NoteCursor;
 import org.folio.notes.domain.repository.NoteRepository;
 import org.folio.notes.domain.repository.NoteTypesRepository;
 import org.folio.notes.exception.NoteNotFoundException;
+import org.folio.notes.metrics.NotesMetrics;
 import org.folio.notes.service.NotesService;
+import org.folio.notes.util.FullTextQueryParser;
 import org.folio.notes.util.HtmlSanitizer;
 import org.folio.spring.data.OffsetRequest;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.CollectionUtils;
 
 @Service
@@ -48,6 +70,7 @@ import org.springframework.util.CollectionUtils;
 @Slf4j
 public class NotesServiceImpl implements NotesService {
 
+  private static final String NOTE_RESOURCE_NAME = "Note";
   private static final Sort.Order DEFAULT_FIELD_ORDER = Sort.Order.asc(NoteEntity_.INDEXED_CONTENT);
   private static final Map<NotesOrderBy, Sort.Direction> DEFAULT_SORT_DIRECTION;
   private static final Map<NotesOrderBy, String> DTO_TO_ENTITY_SORT;
@@ -58,7 +81,8 @@ public class NotesServiceImpl implements NotesService {
         NotesOrderBy.TITLE, Sort.Direction.ASC,
         NotesOrderBy.CONTENT, Sort.Direction.ASC,
         NotesOrderBy.NOTE_TYPE, Sort.Direction.ASC,
-        NotesOrderBy.UPDATED_DATE, Sort.Direction.DESC
+        NotesOrderBy.UPDATED_DATE, Sort.Direction.DESC,
+        NotesOrderBy.RELEVANCE, Sort.Direction.DESC
       );
 
     DTO_TO_ENTITY_SORT =
@@ -66,129 +90,297 @@ public class NotesServiceImpl implements NotesService {
         NotesOrderBy.TITLE, NoteEntity_.TITLE,
         NotesOrderBy.CONTENT, NoteEntity_.INDEXED_CONTENT,
         NotesOrderBy.NOTE_TYPE, NoteEntity_.TYPE,
-        NotesOrderBy.UPDATED_DATE, AuditableEntity_.UPDATED_DATE
+        NotesOrderBy.UPDATED_DATE, AuditableEntity_.UPDATED_DATE,
+        NotesOrderBy.RELEVANCE, NoteRepository.RELEVANCE
       );
   }
 
   private final NoteRepository noteRepository;
+  private final LinkResolver linkResolver;
   private final LinkRepository linkRepository;
   private final NoteTypesRepository noteTypesRepository;
   private final NotesMapper notesMapper;
   private final NoteCollectionMapper noteCollectionMapper;
+  private final MetadataMapper metadataMapper;
+  private final NoteLinksBulkUpdater noteLinksBulkUpdater;
+  private final NoteCounter noteCounter;
   private final HtmlSanitizer sanitizer;
+  private final UserSnapshotService userSnapshotService;
+  private final PopUpNotesCache popUpNotesCache;
+  private final NoteQueryCache noteQueryCache;
+  private final NotesMetrics notesMetrics;
+  private final PlatformTransactionManager transactionManager;
   @Value("${folio.notes.response.limit}")
   private Integer responseLimit;
 
   @Override
-  public NoteCollection getNoteCollection(String query, Integer offset, Integer limit) {
-    log.debug("getNoteCollection:: trying to get Note collection by query: {}, offset: {} and limit: {}",
-      query, offset, limit);
-    var noteEntities = noteRepository.findByCql(query, OffsetRequest.of(offset, limit));
-    log.info("getNoteCollection:: result size: {}", noteEntities.getContent().size());
-    return noteCollectionMapper.toDtoCollection(noteEntities);
+  public NoteCollection getNoteCollection(String query, Integer offset, Integer limit, String cursor,
+                                          String totalRecords) {
+    log.debug("getNoteCollection:: trying to get Note collection by query: {}, offset: {}, limit: {} and cursor: {}",
+      query, offset, limit, cursor);
+    return noteQueryCache.get(query, offset, limit, cursor, totalRecords,
+      () -> inTransaction(true, () -> findNoteCollection(query, offset, limit, cursor, totalRecords)));
   }
 
-  @Override
-  public NoteCollection getNoteCollection(String domain, String objectType, String objectId, String search,
-                                          List<String> noteTypes, LinkStatusFilter status, NotesOrderBy orderBy,
-                                          OrderDirection order, Integer offset,
-                                          Integer limit) {
-    var spec = domainEq(domain);
-
-    spec = andLinkStatusFilter(spec, status, objectType, objectId);
-
-    if (StringUtils.isNotBlank(search)) {
-      spec = spec.and(contentLike(search));
-    }
-
-    if (!CollectionUtils.isEmpty(noteTypes)) {
-      spec = spec.and(typeNameIn(noteTypes));
+  private NoteCollection findNoteCollection(String query, Integer offset, Integer limit, String cursor,
+                                            String totalRecords) {
+    var countOption = NoteCounter.parseOption(totalRecords);
+    if (cursor != null) {
+      var keysetSort = NoteCursor.keysetSort(Sort.unsorted());
+      var actualLimit = Math.min(limit, responseLimit);
+      var notes = noteRepository.findAllByCql(query, seekSpecification(cursor, keysetSort, offset),
+        OffsetRequest.of(0, actualLimit + 1, keysetSort));
+      log.info("getNoteCollection:: result size: {}", Math.min(notes.size(), actualLimit));
+      return toCursorCollection(notes, actualLimit, noteCounter.count(countOption, query), keysetSort);
     }
+    var notes = noteRepository.findAllByCql(query, Specification.unrestricted(), OffsetRequest.of(offset, limit));
+    log.info("getNoteCollection:: result size: {}", notes.size());
+    var count = countNotes(notes, offset, limit, countOption, () -> noteCounter.count(countOption, query));
+    return noteCollectionMapper.toDtoCollection(notes, count.totalRecords(), count.strategy());
+  }
 
+  @Transactional(readOnly = true)
+  @Override
+  public NoteCollection getNoteCollection(String domain, String objectType, String objectId, String search,
+                                          NotesSearchMode searchMode, List<String> noteTypes, LinkStatusFilter status,
+                                          NotesOrderBy orderBy, OrderDirection order, Integer offset,
+                                          Integer limit, String cursor, String totalRecords) {
+    var tsQuery = toTsQuery(search, searchMode);
+    var spec = noteSpecification(domain, objectType, objectId, search, tsQuery, noteTypes, status);
     log.debug("getNoteCollection:: trying to get Note collection by spec: {}, order: {}", spec, order);
     var sort = getSort(orderBy, order);
     var actualLimit = Math.min(limit, responseLimit);
-
-    var t = noteRepository.findAll(spec, OffsetRequest.of(offset, actualLimit, sort));
+    var countOption = NoteCounter.parseOption(totalRecords);
+
+    if (cursor != null) {
+      var keysetSort = NoteCursor.keysetSort(sort);
+      var ids = noteRepository.findIds(spec.and(seekSpecification(cursor, keysetSort, offset)),
+        OffsetRequest.of(0, actualLimit + 1, keysetSort));
+      log.info("getNoteCollection:: loaded Note collection by spec: {}, cursor: {}, limit: {}, sort: {}",
+        spec, cursor, actualLimit, keysetSort);
+      return toCursorCollection(findNotes(ids), actualLimit, noteCounter.count(countOption, spec), keysetSort);
+    }
+    var ids = findIds(spec, tsQuery, OffsetRequest.of(offset, actualLimit, sort));
     log.info("getNoteCollection:: loaded Note collection by spec: {}, offset: {}, limit: {}, sort: {}",
       spec, offset, actualLimit, sort);
-    return noteCollectionMapper.toDtoCollection(t);
+    var count = countNotes(ids, offset, actualLimit, countOption, () -> noteCounter.count(countOption, spec));
+    return noteCollectionMapper.toDtoCollection(findNotes(ids), count.totalRecords(), count.strategy());
+  }
+
+  @Transactional(readOnly = true)
+  @Override
+  public NoteLinkCountCollection countNotesByLinks(NoteLinkCountsRequest request) {
+    var links = new ArrayList<>(new LinkedHashSet<>(request.getLinks()));
+    log.debug("countNotesByLinks:: trying to count notes of {} objects by domain: {}, noteTypes: {}",
+      links.size(), request.getDomain(), request.getNoteTypes());
+    var objectIds = links.stream().map(Link::getId).toArray(String[]::new);
+    var objectTypes = links.stream().map(Link::getType).toArray(String[]::new);
+    var typeNames = Objects.requireNonNullElse(request.getNoteTypes(), List.<String>of()).toArray(String[]::new);
+    var counts = request.getDomain() == null && typeNames.length == 0
+                 ? linkRepository.countNotes(objectIds, objectTypes)
+                 : linkRepository.countNotes(objectIds, objectTypes, request.getDomain(), typeNames);
+    var countsByLink = counts.stream()
+      .collect(Collectors.toMap(count -> new Link(count.getObjectId(), count.getObjectType()),
+        LinkNoteCount::getNoteCount));
+    var result = links.stream()
+      .map(link -> new NoteLinkCount(link.getId(), link.getType(), countsByLink.getOrDefault(link, 0L)))
+      .toList();
+    return new NoteLinkCountCollection(result);
+  }
+
+  @Override
+  public NotePopUpCollection getPopUpNotes(String objectType, String objectId, PopUpContext context) {
+    log.debug("getPopUpNotes:: trying to get pop-up notes by objectType: {}, objectId: {}, context: {}",
+      objectType, objectId, context);
+    var notes = popUpNotesCache.get(objectType, objectId, context,
+      () -> findPopUpNotes(objectType, objectId, context));
+    log.info("getPopUpNotes:: loaded {} pop-up notes by objectType: {}, objectId: {}, context: {}",
+      notes.size(), objectType, objectId, context);
+    return new NotePopUpCollection(notes);
   }
 
   @Override
   public Note getNote(UUID id) {
     log.debug("getNote:: trying to get note by id: {}", id);
-    NoteEntity entity = noteRepository.findById(id).orElseThrow(() -> notFoundException(id));
+    var note = inTransaction(true, () -> noteRepository.findWithTypeAndLinksById(id).map(notesMapper::toDto))
+      .orElseThrow(() -> notFoundException(id));
     log.info("getNote:: loaded note with id: {}", id);
-    return notesMapper.toDto(entity);
+    return resolveUsers(note);
+  }
+
+  @Override
+  public Note getNoteVersion(UUID id) {
+    log.debug("getNoteVersion:: trying to get version of note with id: {}", id);
+    var rows = noteRepository.findVersionById(id);
+    if (rows.isEmpty()) {
+      throw notFoundException(id);
+    }
+    var links = rows.stream()
+      .filter(row -> row.getObjectId() != null)
+      .map(row -> new Link(row.getObjectId(), row.getObjectType()))
+      .toList();
+    return new Note().id(id).version(rows.getFirst().getVersion()).type(rows.getFirst().getTypeName()).links(links);
   }
 
-  @Transactional
   @Override
   public Note createNote(Note note) {
     log.debug("createNote:: trying to create note by title: {}, domain: {}, type: {}",
       note.getTitle(), note.getDomain(), note.getType());
-    NoteEntity entity = saveNote(note, dto -> initNewEntity(notesMapper.toEntity(dto)));
+    var snapshot = userSnapshotService.resolveSnapshot();
+    var created = inTransaction(false,
+      () -> notesMapper.toDto(saveNote(note, dto -> initNewEntity(notesMapper.toEntity(dto)), null, snapshot)));
     log.info("createNote:: created note by title: {}, domain: {}, type: {}",
       note.getTitle(), note.getDomain(), note.getType());
-    return notesMapper.toDto(entity);
+    return resolveUsers(created);
   }
 
   @Transactional
   @Override
   public void updateLinks(String objectType, String objectId, NoteLinkUpdateCollection noteLinkUpdateCollection) {
     log.debug("updateLinks:: trying to update links by objectType: {}, objectId: {}", objectType, objectId);
-    var linkEntity = fetchOrSaveLink(objectId, objectType);
-
     var linkUpdates = noteLinkUpdateCollection.getNotes();
-    var noteIds = linkUpdates.stream()
-      .map(NoteLinkUpdate::getId)
-      .toList();
-
-    var noteEntities = noteRepository.findAllById(noteIds);
-    log.info("updateLinks:: updating note entities' links: {}", noteEntities.size());
-    for (NoteEntity noteEntity : noteEntities) {
-      var linkStatusChange = linkUpdates.stream()
-        .filter(noteLinkUpdate -> noteLinkUpdate.getId().equals(noteEntity.getId()))
-        .findFirst()
-        .map(NoteLinkUpdate::getStatus)
-        .orElseThrow();
-
-      handleLinkStatusChange(linkStatusChange, linkEntity, noteEntity);
+    if (linkUpdates.isEmpty()) {
+      return;
     }
+    var linkId = linkResolver.resolveId(objectId, objectType);
+    var result = noteLinksBulkUpdater.update(linkId, linkUpdates);
+    popUpNotesCache.evict(objectType, objectId);
+    noteQueryCache.invalidate();
+    log.info("updateLinks:: updated links by objectType: {}, objectId: {}, assigned: {}, unassigned: {}, "
+             + "deleted notes: {}", objectType, objectId, result.assigned(), result.unassigned(),
+      result.deletedNotes());
+  }
+
+  @Transactional
+  @Override
+  public void deleteLinks(String objectType, String objectId) {
+    log.debug("deleteLinks:: trying to delete links by objectType: {}, objectId: {}", objectType, objectId);
+    deleteLinksOfObject(objectType, objectId);
   }
 
+  @Async
   @Transactional
   @Override
-  public void updateNote(UUID id, Note dto) {
-    log.debug("updateNote:: trying to update note by id: {}", id);
+  public void deleteLinksAsync(String objectType, String objectId) {
+    log.debug("deleteLinksAsync:: trying to delete links by objectType: {}, objectId: {}", objectType, objectId);
+    deleteLinksOfObject(objectType, objectId);
+  }
+
+  @Override
+  public void updateNote(UUID id, Note dto, Integer expectedVersion) {
+    log.debug("updateNote:: trying to update note by id: {}, expected version: {}", id, expectedVersion);
     if (dto.getLinks().isEmpty()) {
       log.warn("updateNote:: note has no links, thus delete note id: {}", id);
-      delete(id);
-    } else {
-      noteRepository.findById(id)
-        .ifPresentOrElse(entity -> {
-          log.info("updateNote:: note loaded with id: {}", id);
-          saveNote(dto, noteMapFunction(dto, entity));
-        }, throwNotFoundById(id, "updateNote"));
+      inTransaction(() -> delete(id, expectedVersion));
+      return;
     }
+    var snapshot = userSnapshotService.resolveSnapshot();
+    inTransaction(() -> noteRepository.findWithTypeAndLinksById(id)
+      .ifPresentOrElse(entity -> {
+        log.info("updateNote:: note loaded with id: {}", id);
+        checkVersion(entity, expectedVersion, NOTE_RESOURCE_NAME);
+        var storedContent = StoredContent.of(entity);
+        popUpNotesCache.evict(entity.getLinks());
+        saveNote(dto, noteMapFunction(dto, entity), storedContent, snapshot);
+      }, throwNotFoundById(id, "updateNote")));
   }
 
   @Transactional
   @Override
   public void deleteNote(UUID id) {
     log.debug("deleteNote:: trying to delete note with id: {}", id);
-    delete(id);
+    delete(id, null);
   }
 
-  private void delete(UUID id) {
-    noteRepository.findById(id)
+  private void deleteLinksOfObject(String objectType, String objectId) {
+    linkRepository.findByObjectIdAndObjectType(objectId, objectType)
+      .ifPresentOrElse(link -> {
+        var result = noteLinksBulkUpdater.delete(link.getId());
+        popUpNotesCache.evict(objectType, objectId);
+        noteQueryCache.invalidate();
+        log.info("deleteLinks:: deleted links by objectType: {}, objectId: {}, unassigned: {}, deleted notes: {}",
+          objectType, objectId, result.unassigned(), result.deletedNotes());
+      }, () -> log.info("deleteLinks:: no links found by objectType: {}, objectId: {}", objectType, objectId));
+  }
+
+  private void delete(UUID id, Integer expectedVersion) {
+    noteRepository.findWithTypeAndLinksById(id)
       .ifPresentOrElse(entity -> {
+        checkVersion(entity, expectedVersion, NOTE_RESOURCE_NAME);
+        popUpNotesCache.evict(entity.getLinks());
         noteRepository.deleteById(id);
+        noteQueryCache.invalidate();
         log.info("deleteNote:: deleted note with id: {}", id);
       }, throwNotFoundById(id, "deleteNote"));
   }
 
+  /**
+   * Runs the action in a transaction that is completed before the result is returned: entities are loaded
+   * and mapped inside of it, and the database connection is already released when users are resolved.
+   */
+  private <T> T inTransaction(boolean readOnly, Supplier<T> action) {
+    var transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setReadOnly(readOnly);
+    return Objects.requireNonNull(transactionTemplate.execute(status -> action.get()));
+  }
+
+  private void inTransaction(Runnable action) {
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> action.run());
+  }
+
+  private Note resolveUsers(Note note) {
+    metadataMapper.resolveUsers(note.getMetadata());
+    return note;
+  }
+
+  private List<NotePopUp> findPopUpNotes(String objectType, String objectId, PopUpContext context) {
+    var notes = switch (context) {
+      case CHECKOUT -> noteRepository.findCheckOutPopUps(objectId, objectType);
+      case USER -> noteRepository.findUserPopUps(objectId, objectType);
+    };
+    return notesMapper.toPopUpDtos(notes);
+  }
+
+  private Specification<NoteEntity> noteSpecification(String domain, String objectType, String objectId,
+                                                      String search, String tsQuery, List<String> noteTypes,
+                                                      LinkStatusFilter status) {
+    var spec = domainEq(domain);
+
+    spec = andLinkStatusFilter(spec, status, objectType, objectId);
+
+    if (tsQuery != null) {
+      spec = spec.and(fullTextMatch(tsQuery));
+    } else if (StringUtils.isNotBlank(search)) {
+      spec = spec.and(contentLike(search));
+    }
+
+    if (!CollectionUtils.isEmpty(noteTypes)) {
+      spec = spec.and(typeNameIn(noteTypes));
+    }
+    return spec;
+  }
+
+  /**
+   * Returns the tsquery for the full-text search mode. Without searchable words, the search falls back
+   * to the substring match.
+   */
+  private String toTsQuery(String search, NotesSearchMode searchMode) {
+    if (searchMode != NotesSearchMode.FULLTEXT || StringUtils.isBlank(search)) {
+      return null;
+    }
+    return FullTextQueryParser.toTsQuery(search).orElse(null);
+  }
+
+  private List<UUID> findIds(Specification<NoteEntity> spec, String tsQuery, Pageable pageable) {
+    if (pageable.getSort().getOrderFor(NoteRepository.RELEVANCE) == null) {
+      return noteRepository.findIds(spec, pageable);
+    }
+    if (tsQuery == null) {
+      throw new IllegalArgumentException("Ordering by relevance requires search in the fulltext mode");
+    }
+    return noteRepository.findIdsByRelevance(spec, tsQuery, pageable);
+  }
+
   private Specification<NoteEntity> andLinkStatusFilter(
     Specification<NoteEntity> spec, LinkStatusFilter status, String objectType, String objectId) {
     return switch (status) {
@@ -198,17 +390,55 @@ public class NotesServiceImpl implements NotesService {
     };
   }
 
-  private void handleLinkStatusChange(LinkStatus linkStatusChange, LinkEntity linkEntity, NoteEntity noteEntity) {
-    if (linkStatusChange == LinkStatus.UNASSIGNED) {
-      noteEntity.deleteLink(linkEntity);
-    } else {
-      noteEntity.addLink(linkEntity);
+  /**
+   * Loads the page in two steps: note ids are paged by the database first, then only those notes
+   * are fetched together with their type and links and put back in the page order.
+   */
+  private List<NoteEntity> findNotes(List<UUID> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
     }
-    if (noteEntity.getLinks().isEmpty()) {
-      noteRepository.delete(noteEntity);
-    } else {
-      noteRepository.save(noteEntity);
+    var notesById = noteRepository.findAllByIdIn(ids).stream()
+      .collect(Collectors.toMap(NoteEntity::getId, Function.identity()));
+    return ids.stream()
+      .map(notesById::get)
+      .filter(Objects::nonNull)
+      .toList();
+  }
+
+  /**
+   * Skips the count query when the page is not full, then the total is already known.
+   */
+  private NoteCounter.Count countNotes(List<?> page, int offset, int limit, NoteCounter.Option countOption,
+                                       Supplier<NoteCounter.Count> counter) {
+    if (countOption.strategy() != TotalRecordsStrategy.NONE && page.size() < limit
+        && (offset == 0 || !page.isEmpty())) {
+      return new NoteCounter.Count((long) offset + page.size(), TotalRecordsStrategy.EXACT);
+    }
+    return counter.get();
+  }
+
+  private Specification<NoteEntity> seekSpecification(String cursor, Sort keysetSort, Integer offset) {
+    if (offset != null && offset > 0) {
+      throw new IllegalArgumentException("Offset can't be used together with cursor");
     }
+    return NoteCursor.FIRST_PAGE.equals(cursor)
+           ? Specification.unrestricted()
+           : NoteCursor.decode(cursor, keysetSort).seek(keysetSort);
+  }
+
+  /**
+   * Builds the collection from notes loaded with one extra note: if the extra note is present,
+   * there is a next page and it starts after the last note of this page.
+   */
+  private NoteCollection toCursorCollection(List<NoteEntity> notes, int limit, NoteCounter.Count count,
+                                            Sort keysetSort) {
+    var hasNext = notes.size() > limit;
+    var pageNotes = hasNext ? notes.subList(0, limit) : notes;
+    var collection = noteCollectionMapper.toDtoCollection(pageNotes, count.totalRecords(), count.strategy());
+    return hasNext
+           ? collection.nextCursor(NoteCursor.after(pageNotes.getLast(), keysetSort).encode())
+           : collection;
   }
 
   private Sort getSort(NotesOrderBy orderBy, OrderDirection order) {
@@ -240,36 +470,69 @@ public class NotesServiceImpl implements NotesService {
     return noteDto -> notesMapper.updateNote(noteDto, noteEntity);
   }
 
-  private NoteEntity saveNote(Note dto, Function<Note, NoteEntity> mapFunction) {
+  private NoteEntity saveNote(Note dto, Function<Note, NoteEntity> mapFunction, StoredContent storedContent,
+                              UserSnapshot snapshot) {
     var noteEntity = mapFunction.apply(dto);
     manageNoteLinks(noteEntity);
-    noteEntity.setContent(sanitizer.sanitize(noteEntity.getContent()));
-    return noteRepository.save(noteEntity);
+    sanitizeAndIndexContent(noteEntity, storedContent);
+    UserSnapshotService.captureSnapshot(noteEntity, snapshot);
+    var savedNote = noteRepository.save(noteEntity);
+    popUpNotesCache.evict(savedNote.getLinks());
+    noteQueryCache.invalidate();
+    return savedNote;
+  }
+
+  /**
+   * Sanitizes the content and builds indexed_content from a single parse of the content.
+   * The stored content is already sanitized, so unchanged content is neither parsed nor sanitized again.
+   */
+  private void sanitizeAndIndexContent(NoteEntity noteEntity, StoredContent storedContent) {
+    String text;
+    if (storedContent != null && storedContent.text() != null
+        && Objects.equals(storedContent.html(), noteEntity.getContent())) {
+      log.debug("sanitizeAndIndexContent:: content is not changed for note with id: {}", noteEntity.getId());
+      text = storedContent.text();
+    } else {
+      var sanitized = notesMetrics.timeSanitizing(() -> sanitizer.sanitizeWithText(noteEntity.getContent()));
+      noteEntity.setContent(sanitized.html());
+      text = sanitized.text();
+    }
+    noteEntity.setIndexedContent(StoredContent.indexedContent(noteEntity.getTitle(), text));
   }
 
   private void manageNoteLinks(NoteEntity noteEntity) {
     if (noteEntity.getLinks() != null) {
       var transientLinks = noteEntity.getLinks();
       noteEntity.setLinks(null); // Detach transient links to avoid auto-flush issues
-      var linkEntities = transientLinks.stream()
-        .map(this::fetchOrSaveLink)
-        .collect(Collectors.toSet());
-      noteEntity.setLinks(linkEntities);
+      noteEntity.setLinks(linkResolver.resolve(transientLinks));
     }
   }
 
-  private LinkEntity fetchOrSaveLink(LinkEntity linkEntity) {
-    return fetchOrSaveLink(linkEntity.getObjectId(), linkEntity.getObjectType());
-  }
+  /**
+   * Sanitized content of a stored note and its plain text taken from indexed_content.
+   *
+   * @param html sanitized content
+   * @param text plain text of the content, {@code null} if indexed_content was not built from the title and content
+   */
+  private record StoredContent(String html, String text) {
+
+    private static final String TITLE_DELIMITER = " ";
+
+    static StoredContent of(NoteEntity note) {
+      var titlePrefix = Objects.toString(note.getTitle(), "") + TITLE_DELIMITER;
+      var indexedContent = note.getIndexedContent();
+      var text = indexedContent != null && indexedContent.startsWith(titlePrefix)
+                 ? indexedContent.substring(titlePrefix.length())
+                 : null;
+      return new StoredContent(note.getContent(), text);
+    }
 
-  private LinkEntity fetchOrSaveLink(String objectId, String objectType) {
-    return linkRepository.findByObjectIdAndObjectType(objectId, objectType)
-      .orElseGet(() -> {
-        LinkEntity linkEntity = new LinkEntity();
-        linkEntity.setObjectId(objectId);
-        linkEntity.setObjectType(objectType);
-        return linkRepository.save(initNewEntity(linkEntity));
-      });
+    /**
+     * Builds indexed_content the same way as the {@code compute_indexed_content} trigger does.
+     */
+    static String indexedContent(String title, String text) {
+      return Objects.toString(title, "") + TITLE_DELIMITER + text;
+    }
   }
 
   private NoteNotFoundException notFoundException(UUID id) {
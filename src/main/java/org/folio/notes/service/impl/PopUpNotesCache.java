@@ -0,0 +1,85 @@
+package org.folio.notes.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.folio.notes.domain.dto.NotePopUp;
+import org.folio.notes.domain.dto.PopUpContext;
+import org.folio.notes.datasource.ReplicaRoutingDataSource;
+import org.folio.notes.domain.entity.LinkEntity;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Pop-up notes of objects per tenant. Entries of an object are evicted after the transaction that changed
+ * its notes is committed, a read that loaded notes before the commit may still cache them until the entry expires,
+ * so the expiration of the pop-up-notes cache is kept short. Notes are loaded from the primary database when reads
+ * are routed to a replica.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopUpNotesCache {
+
+  private final Cache<PopUpKey, List<NotePopUp>> popUpNotesCache;
+  private final FolioExecutionContext context;
+
+  /**
+   * Returns cached notes of the object, concurrent loads of the same entry are coalesced into one.
+   */
+  public List<NotePopUp> get(String objectType, String objectId, PopUpContext popUpContext,
+                             Supplier<List<NotePopUp>> loader) {
+    var key = new PopUpKey(context.getTenantId(), objectType, objectId, popUpContext);
+    return popUpNotesCache.get(key, ignored -> List.copyOf(ReplicaRoutingDataSource.onPrimary(loader)));
+  }
+
+  public void evict(Collection<LinkEntity> links) {
+    if (links != null) {
+      links.forEach(link -> evict(link.getObjectType(), link.getObjectId()));
+    }
+  }
+
+  public void evict(String objectType, String objectId) {
+    var tenantId = context.getTenantId();
+    runAfterCommit(() -> {
+      log.debug("evict:: evicting pop-up notes by objectType: {}, objectId: {}", objectType, objectId);
+      for (var popUpContext : PopUpContext.values()) {
+        popUpNotesCache.invalidate(new PopUpKey(tenantId, objectType, objectId, popUpContext));
+      }
+    });
+  }
+
+  /**
+   * Evicts pop-up notes of all objects of the current tenant, used when a change affects notes of any object.
+   */
+  public void evictAll() {
+    var tenantId = context.getTenantId();
+    runAfterCommit(() -> {
+      log.debug("evictAll:: evicting pop-up notes of tenant: {}", tenantId);
+      popUpNotesCache.asMap().keySet().removeIf(key -> key.tenantId().equals(tenantId));
+    });
+  }
+
+  private static void runAfterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  /**
+   * Cache key of pop-up notes of an object, namespaced by tenant.
+   */
+  public record PopUpKey(String tenantId, String objectType, String objectId, PopUpContext popUpContext) { }
+}
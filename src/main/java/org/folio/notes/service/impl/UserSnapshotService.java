@@ -0,0 +1,110 @@
+package org.folio.notes.service.impl;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.folio.notes.config.properties.UserSnapshotProperties;
+import org.folio.notes.domain.dto.User;
+import org.folio.notes.domain.entity.NoteEntity;
+import org.folio.notes.domain.entity.UserSnapshot;
+import org.folio.notes.domain.repository.NoteRepository;
+import org.folio.notes.service.UsersService;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * Captures the acting user on note writes and backfills snapshots of existing notes,
+ * so that note reads do not depend on mod-users.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserSnapshotService {
+
+  private final UserSnapshotProperties properties;
+  private final UsersService usersService;
+  private final NoteRepository noteRepository;
+  private final FolioExecutionContext context;
+  private final NoteQueryCache noteQueryCache;
+
+  /**
+   * Resolves the snapshot of the acting user from mod-users. It is called before the write transaction begins,
+   * so that no database connection is held during the call.
+   *
+   * @return the snapshot, or null when snapshots are disabled or the user is not found
+   */
+  public UserSnapshot resolveSnapshot() {
+    if (!properties.isEnabled()) {
+      return null;
+    }
+    return Optional.ofNullable(context.getUserId())
+      .flatMap(usersService::getUser)
+      .map(UserSnapshot::from)
+      .orElse(null);
+  }
+
+  /**
+   * Sets the resolved snapshot as the updater of the note, and as its creator when the note is new.
+   */
+  public static void captureSnapshot(NoteEntity noteEntity, UserSnapshot snapshot) {
+    if (snapshot == null) {
+      return;
+    }
+    if (noteEntity.isNew()) {
+      noteEntity.setCreatedBySnapshot(snapshot);
+    }
+    noteEntity.setUpdatedBySnapshot(snapshot);
+  }
+
+  /**
+   * Fills missing snapshots of existing notes in background, so that a tenant upgrade does not wait for them.
+   */
+  @Async
+  public void backfillSnapshotsAsync() {
+    try {
+      backfillSnapshots();
+    } catch (RuntimeException e) {
+      log.warn("backfillSnapshotsAsync:: failed to backfill snapshots", e);
+    }
+  }
+
+  /**
+   * Fills missing snapshots of existing notes in batches of users, each batch with a single statement.
+   *
+   * @return number of updated notes
+   */
+  public int backfillSnapshots() {
+    if (!properties.isEnabled()) {
+      return 0;
+    }
+    var userIds = noteRepository.findUserIdsWithoutSnapshot();
+    log.info("backfillSnapshots:: backfilling snapshots of {} users", userIds.size());
+    var batchSize = properties.getBackfillBatchSize();
+    var updated = IntStream.iterate(0, from -> from < userIds.size(), from -> from + batchSize)
+      .mapToObj(from -> userIds.subList(from, Math.min(from + batchSize, userIds.size())))
+      .mapToInt(batch -> backfillSnapshots(List.copyOf(usersService.getUsers(batch).values())))
+      .sum();
+    if (updated > 0) {
+      noteQueryCache.invalidate();
+    }
+    log.info("backfillSnapshots:: backfilled snapshots of {} notes", updated);
+    return updated;
+  }
+
+  private int backfillSnapshots(List<User> users) {
+    if (users.isEmpty()) {
+      return 0;
+    }
+    var snapshots = users.stream().map(UserSnapshot::from).toList();
+    return noteRepository.backfillSnapshots(
+      users.stream().map(User::id).toArray(UUID[]::new),
+      snapshots.stream().map(UserSnapshot::getUsername).toArray(String[]::new),
+      snapshots.stream().map(UserSnapshot::getFirstName).toArray(String[]::new),
+      snapshots.stream().map(UserSnapshot::getLastName).toArray(String[]::new),
+      snapshots.stream().map(UserSnapshot::getMiddleName).toArray(String[]::new));
+  }
+}
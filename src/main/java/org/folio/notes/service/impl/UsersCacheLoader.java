@@ -0,0 +1,71 @@
+package org.folio.notes.service.impl;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.folio.notes.client.UsersClient;
+import org.folio.notes.domain.dto.User;
+import org.folio.notes.domain.dto.UserCollection;
+import org.folio.notes.metrics.NotesMetrics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads users for the users-by-id cache. Loading runs on the cache executor with the Folio context of the request
+ * that triggered it, failures are propagated so that a failed refresh keeps the previous value.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UsersCacheLoader implements CacheLoader<UsersCacheLoader.UserKey, User> {
+
+  private static final int USERS_BATCH_SIZE = 50;
+
+  private final UsersClient client;
+  private final NotesMetrics metrics;
+
+  @Override
+  public User load(UserKey key) {
+    log.debug("load:: loading user with id: {}", key.userId());
+    return metrics.timeUsersClient("fetchUserById", () -> client.fetchUserById(key.userId().toString()))
+      .orElse(null);
+  }
+
+  @Override
+  public Map<UserKey, User> loadAll(Set<? extends UserKey> keys) {
+    if (keys.size() == 1) {
+      var key = keys.iterator().next();
+      return Optional.ofNullable(load(key)).map(user -> Map.<UserKey, User>of(key, user)).orElse(Map.of());
+    }
+    var keyList = List.<UserKey>copyOf(keys);
+    var users = new HashMap<UserKey, User>();
+    for (int from = 0; from < keyList.size(); from += USERS_BATCH_SIZE) {
+      users.putAll(loadBatch(keyList.subList(from, Math.min(from + USERS_BATCH_SIZE, keyList.size()))));
+    }
+    return users;
+  }
+
+  private Map<UserKey, User> loadBatch(List<UserKey> keys) {
+    var keysById = keys.stream().collect(Collectors.toMap(UserKey::userId, Function.identity()));
+    var query = keysById.keySet().stream().map(UUID::toString).collect(Collectors.joining(" or ", "id==(", ")"));
+    log.debug("loadBatch:: loading users by query: {}", query);
+    return Optional.ofNullable(metrics.timeUsersClient("fetchUsers", () -> client.fetchUsers(query, keys.size())))
+      .map(UserCollection::users)
+      .orElse(List.of())
+      .stream()
+      .filter(user -> keysById.containsKey(user.id()))
+      .collect(Collectors.toMap(user -> keysById.get(user.id()), Function.identity()));
+  }
+
+  /**
+   * Cache key of a user, namespaced by tenant.
+   */
+  public record UserKey(String tenantId, UUID userId) { }
+}
@@ -1,35 +1,63 @@
 package org.folio.notes.service.impl;
 
-import static org.folio.notes.config.CacheConfig.CACHE_USERS_BY_ID;
-
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.folio.notes.client.UsersClient;
 import org.folio.notes.domain.dto.User;
 import org.folio.notes.service.UsersService;
-import org.springframework.cache.annotation.Cacheable;
+import org.folio.notes.service.impl.UsersCacheLoader.UserKey;
+import org.folio.spring.FolioExecutionContext;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpStatusCodeException;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class UsersServiceImpl implements UsersService {
 
-  private final UsersClient client;
+  private final AsyncLoadingCache<UserKey, User> usersByIdCache;
+  private final FolioExecutionContext context;
 
   @Override
-  @Cacheable(cacheNames = CACHE_USERS_BY_ID, key = "@folioExecutionContext.tenantId + ':' + #id",
-             unless = "#result == null")
   public Optional<User> getUser(UUID id) {
     log.debug("getUser:: trying to get user with id: {}", id);
+    if (id == null) {
+      return Optional.empty();
+    }
     try {
-      return id == null ? Optional.empty() : client.fetchUserById(id.toString());
-    } catch (HttpStatusCodeException e) {
-      log.warn("getUser:: error while getting user with id: {}: {}", id, e.getMessage());
+      return Optional.ofNullable(usersByIdCache.get(cacheKey(id)).join());
+    } catch (CompletionException e) {
+      log.warn("getUser:: error while getting user with id: {}: {}", id, e.getCause().getMessage());
       return Optional.empty();
     }
   }
+
+  @Override
+  public Map<UUID, User> getUsers(Collection<UUID> ids) {
+    log.debug("getUsers:: trying to get users by ids: {}", ids);
+    var keys = ids.stream()
+      .filter(Objects::nonNull)
+      .distinct()
+      .map(this::cacheKey)
+      .toList();
+    try {
+      var users = usersByIdCache.getAll(keys).join().entrySet().stream()
+        .collect(Collectors.toMap(entry -> entry.getKey().userId(), Map.Entry::getValue));
+      log.info("getUsers:: resolved {} of {} users", users.size(), keys.size());
+      return users;
+    } catch (CompletionException e) {
+      log.warn("getUsers:: error while getting users by ids: {}: {}", ids, e.getCause().getMessage());
+      return Map.of();
+    }
+  }
+
+  private UserKey cacheKey(UUID id) {
+    return new UserKey(context.getTenantId(), id);
+  }
 }
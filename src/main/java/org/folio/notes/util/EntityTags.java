@@ -0,0 +1,74 @@
+package org.folio.notes.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.notes.exception.VersionMismatchException;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Strong entity tags of records and collections. A record tag starts with the record version,
+ * so the version expected by an If-Match precondition is read from the tag.
+ */
+@UtilityClass
+public class EntityTags {
+
+  private static final String ANY = "*";
+  private static final String WEAK_PREFIX = "W/";
+  private static final String QUOTE = "\"";
+  private static final String PART_DELIMITER = "-";
+  private static final String TAG_DELIMITER = ",";
+
+  public static String of(Object... parts) {
+    return QUOTE + Arrays.stream(parts).map(String::valueOf).collect(Collectors.joining(PART_DELIMITER)) + QUOTE;
+  }
+
+  public static String ofDigest(Object... parts) {
+    return QUOTE + digest(parts) + QUOTE;
+  }
+
+  /**
+   * Returns the hex digest of the parts, to be used as a part of a tag.
+   */
+  public static String digest(Object... parts) {
+    var value = Arrays.stream(parts).map(String::valueOf).collect(Collectors.joining(TAG_DELIMITER));
+    return DigestUtils.md5DigestAsHex(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Checks the If-None-Match header with the weak comparison.
+   *
+   * @return true if the header lists the tag or is {@code *}
+   */
+  public static boolean matches(String ifNoneMatch, String etag) {
+    if (StringUtils.isBlank(ifNoneMatch)) {
+      return false;
+    }
+    return Arrays.stream(ifNoneMatch.split(TAG_DELIMITER))
+      .map(String::trim)
+      .map(tag -> StringUtils.removeStart(tag, WEAK_PREFIX))
+      .anyMatch(tag -> ANY.equals(tag) || etag.equals(tag));
+  }
+
+  /**
+   * Returns the record version of the If-Match header, {@code null} if there is no precondition on the version.
+   *
+   * @throws VersionMismatchException if the header is not a single strong tag of a record
+   */
+  public static Integer expectedVersion(String ifMatch) {
+    if (StringUtils.isBlank(ifMatch) || ANY.equals(ifMatch.trim())) {
+      return null;
+    }
+    var tag = ifMatch.trim();
+    if (!tag.startsWith(QUOTE) || !tag.endsWith(QUOTE) || tag.length() < 2) {
+      throw new VersionMismatchException("If-Match must be a single strong entity tag: " + ifMatch);
+    }
+    var version = StringUtils.substringBefore(tag.substring(1, tag.length() - 1), PART_DELIMITER);
+    if (!StringUtils.isNumeric(version)) {
+      throw new VersionMismatchException("If-Match is not an entity tag of a record: " + ifMatch);
+    }
+    return Integer.valueOf(version);
+  }
+}
@@ -0,0 +1,73 @@
+package org.folio.notes.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Converts the search syntax of the full-text search mode into a PostgreSQL {@code to_tsquery} expression.
+ *
+ * <ul>
+ *   <li>{@code word1 word2} - both words, {@code word1 OR word2} - any of the words</li>
+ *   <li>{@code "some phrase"} - the words next to each other</li>
+ *   <li>{@code wor*} - words starting with the prefix</li>
+ *   <li>{@code -word} - without the word</li>
+ * </ul>
+ *
+ * <p>Words are split on characters other than letters and digits, so the result never contains tsquery operators
+ * from the user input and is always a valid expression. The split is simpler than the parser of the indexed text:
+ * hyphenated words are indexed by their parts as well and are found as phrases of the parts, but emails, URLs and
+ * file paths are indexed as single tokens and are not found in this mode.
+ */
+@UtilityClass
+public class FullTextQueryParser {
+
+  private static final Pattern TOKEN = Pattern.compile("(-?)(?:\"([^\"]*)\"?|(\\S+))");
+  private static final Pattern LEXEME_DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+  private static final String OR_KEYWORD = "OR";
+  private static final String PREFIX_SUFFIX = "*";
+
+  /**
+   * Returns the tsquery expression, or empty if the search has no words to search for.
+   */
+  public static Optional<String> toTsQuery(String search) {
+    var expression = new StringBuilder();
+    var nextOperator = " & ";
+    var matcher = TOKEN.matcher(search);
+    while (matcher.find()) {
+      if (OR_KEYWORD.equals(matcher.group(3)) && matcher.group(1).isEmpty()) {
+        nextOperator = " | ";
+        continue;
+      }
+      var term = matcher.group(2) != null ? phrase(matcher.group(2), false) : word(matcher.group(3));
+      if (term.isEmpty()) {
+        continue;
+      }
+      if (!expression.isEmpty()) {
+        expression.append(nextOperator);
+      }
+      expression.append(matcher.group(1).isEmpty() ? term : "!" + term);
+      nextOperator = " & ";
+    }
+    return expression.isEmpty() ? Optional.empty() : Optional.of(expression.toString());
+  }
+
+  private static String word(String word) {
+    var prefix = word.endsWith(PREFIX_SUFFIX);
+    return phrase(prefix ? word.substring(0, word.length() - PREFIX_SUFFIX.length()) : word, prefix);
+  }
+
+  private static String phrase(String text, boolean prefix) {
+    var lexemes = new ArrayList<>(List.of(LEXEME_DELIMITER.split(text)));
+    lexemes.removeIf(String::isEmpty);
+    if (lexemes.isEmpty()) {
+      return "";
+    }
+    if (prefix) {
+      lexemes.set(lexemes.size() - 1, lexemes.getLast() + ":*");
+    }
+    return lexemes.size() == 1 ? lexemes.getFirst() : "(" + String.join(" <-> ", lexemes) + ")";
+  }
+}
@@ -1,14 +1,26 @@
 package org.folio.notes.util;
 
+import java.util.regex.Pattern;
 import org.apache.commons.lang3.StringUtils;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.safety.Cleaner;
 import org.jsoup.safety.Safelist;
+import org.jsoup.select.NodeTraversor;
 import org.springframework.stereotype.Component;
 
+/**
+ * Sanitizes note content with the configured {@link Safelist}. The result is always the same as the result of
+ * {@link Jsoup#clean(String, String, Safelist, Document.OutputSettings)}, but plain text without markup is only
+ * escaped without parsing, and it is returned as is if there is nothing to escape.
+ */
 @Component
 public class HtmlSanitizer implements Sanitizer {
 
+  private static final Pattern NEW_LINES = Pattern.compile("\n+");
+
   private final Safelist safelist;
   private final Document.OutputSettings defaultOutputSettings;
 
@@ -19,8 +31,77 @@ public class HtmlSanitizer implements Sanitizer {
 
   @Override
   public String sanitize(String content) {
-    return StringUtils.isNotBlank(content)
-      ? Jsoup.clean(content, "", safelist, defaultOutputSettings)
-      : content;
+    if (StringUtils.isBlank(content)) {
+      return content;
+    }
+    return isPlainText(content) ? escape(content) : clean(content).html();
+  }
+
+  /**
+   * The text is built the same way as the {@code compute_indexed_content} trigger builds it from the stored content:
+   * tags are removed, text is kept in its escaped form, and new lines are replaced with a space.
+   */
+  @Override
+  public SanitizedContent sanitizeWithText(String content) {
+    if (StringUtils.isBlank(content)) {
+      return new SanitizedContent(content, content == null ? "" : NEW_LINES.matcher(content).replaceAll(" "));
+    }
+    if (isPlainText(content)) {
+      var escaped = escape(content);
+      return new SanitizedContent(escaped, NEW_LINES.matcher(escaped).replaceAll(" "));
+    }
+    var body = clean(content);
+    var text = new StringBuilder();
+    NodeTraversor.traverse((node, depth) -> {
+      if (node instanceof TextNode textNode) {
+        text.append(textNode.outerHtml());
+      }
+    }, body);
+    return new SanitizedContent(body.html(), NEW_LINES.matcher(text).replaceAll(" "));
+  }
+
+  /**
+   * Plain text is parsed into a single text node with the same value, so only its escaping can change it.
+   * Character references, carriage returns and null characters are replaced by the parser and are not plain text.
+   */
+  private static boolean isPlainText(String content) {
+    for (int i = 0; i < content.length(); i++) {
+      switch (content.charAt(i)) {
+        case '<', '&', '\r', '\0':
+          return false;
+        default:
+          break;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Only '>', non-breaking spaces, control characters other than tab and new line, and surrogates are escaped
+   * in text of the cleaned body, text without them is returned as is.
+   */
+  private String escape(String text) {
+    for (int i = 0; i < text.length(); i++) {
+      var c = text.charAt(i);
+      if (c == '>' || c == '\u00A0' || c < ' ' && c != '\t' && c != '\n' || Character.isSurrogate(c)) {
+        return writeAsBodyText(text);
+      }
+    }
+    return text;
+  }
+
+  /**
+   * Writes the text as the single text node of a body, which is what the cleaner outputs for plain text.
+   */
+  private String writeAsBodyText(String text) {
+    var document = Document.createShell("");
+    document.outputSettings(defaultOutputSettings);
+    return document.body().appendText(text).html();
+  }
+
+  private Element clean(String content) {
+    var clean = new Cleaner(safelist).clean(Jsoup.parseBodyFragment(content, ""));
+    clean.outputSettings(defaultOutputSettings);
+    return clean.body();
   }
 }
@@ -2,7 +2,9 @@ package org.folio.notes.util;
 
 import java.util.UUID;
 import lombok.experimental.UtilityClass;
+import org.folio.notes.domain.entity.AuditableEntity;
 import org.folio.notes.domain.entity.BaseEntity;
+import org.folio.notes.exception.VersionMismatchException;
 import org.jspecify.annotations.NonNull;
 
 @UtilityClass
@@ -15,4 +17,13 @@ public class JpaUtils {
     entity.setNew(true);
     return entity;
   }
+
+  /**
+   * Checks the version of an If-Match precondition, {@code null} expected version matches any version.
+   */
+  public static void checkVersion(@NonNull AuditableEntity entity, Integer expectedVersion, String resourceName) {
+    if (expectedVersion != null && expectedVersion != entity.getVersion()) {
+      throw new VersionMismatchException(resourceName, entity.getId(), entity.getVersion(), expectedVersion);
+    }
+  }
 }
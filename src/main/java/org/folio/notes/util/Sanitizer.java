@@ -3,4 +3,17 @@ package org.folio.notes.util;
 public interface Sanitizer {
 
   String sanitize(String content);
+
+  /**
+   * Sanitizes the content and extracts its plain text from the same parsed tree.
+   */
+  SanitizedContent sanitizeWithText(String content);
+
+  /**
+   * Sanitized content and its plain text.
+   *
+   * @param html sanitized content
+   * @param text plain text of the sanitized content, never {@code null}
+   */
+  record SanitizedContent(String html, String text) { }
 }
@@ -0,0 +1,22 @@
+CREATE OR REPLACE FUNCTION count_type_usage() RETURNS TRIGGER AS $$
+  BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+      UPDATE ${database.defaultSchemaName}.type_usage SET note_count = note_count - 1 WHERE type_id = OLD.type_id;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+      INSERT INTO ${database.defaultSchemaName}.type_usage (type_id, note_count) VALUES (NEW.type_id, 1)
+      ON CONFLICT (type_id) DO UPDATE SET note_count = ${database.defaultSchemaName}.type_usage.note_count + 1;
+    END IF;
+    RETURN NULL;
+  END;
+$$ language 'plpgsql';
+
+DROP TRIGGER IF EXISTS count_type_usage_trigger ON note;
+CREATE TRIGGER count_type_usage_trigger
+  AFTER INSERT OR DELETE ON note
+  FOR EACH ROW EXECUTE PROCEDURE count_type_usage();
+
+DROP TRIGGER IF EXISTS count_type_usage_on_type_change_trigger ON note;
+CREATE TRIGGER count_type_usage_on_type_change_trigger
+  AFTER UPDATE OF type_id ON note
+  FOR EACH ROW WHEN (OLD.type_id IS DISTINCT FROM NEW.type_id) EXECUTE PROCEDURE count_type_usage();
@@ -0,0 +1,152 @@
+package org.folio.notes.controller;
+
+import static java.util.UUID.randomUUID;
+import static org.folio.notes.support.DatabaseHelper.LINK;
+import static org.folio.notes.support.DatabaseHelper.NOTE;
+import static org.folio.notes.support.DatabaseHelper.TYPE;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.UUID;
+import org.folio.notes.domain.dto.Link;
+import org.folio.notes.domain.dto.LinkStatus;
+import org.folio.notes.domain.dto.Note;
+import org.folio.notes.domain.dto.NoteLinkUpdate;
+import org.folio.notes.domain.dto.NoteLinkUpdateCollection;
+import org.folio.notes.domain.dto.NoteType;
+import org.folio.notes.domain.dto.User;
+import org.folio.notes.domain.entity.NoteEntity;
+import org.folio.notes.domain.entity.NoteTypeEntity;
+import org.folio.notes.support.TestApiBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.ResultActions;
+
+@TestPropertySource(properties = {"folio.notes.query-cache.enabled=true"})
+class NoteQueryCacheIT extends TestApiBase {
+
+  private static final String NOTE_URL = "/notes";
+  private static final String DOMAIN = "users";
+  private static final String OBJECT_TYPE = "user";
+  private static final String OBJECT_ID = "user-1";
+  private static final String QUERY = "domain=users and links.objectId = \"" + OBJECT_ID + "\"";
+
+  private NoteTypeEntity noteType;
+  private UUID linkId;
+  private UUID noteId;
+
+  @BeforeEach
+  void setUp() {
+    stubUser(new User(USER_ID, "test_user", null));
+    databaseHelper.clearTable(TENANT, NOTE);
+    databaseHelper.clearTable(TENANT, TYPE);
+    databaseHelper.clearTable(TENANT, LINK);
+    noteType = new NoteTypeEntity();
+    noteType.setId(randomUUID());
+    noteType.setName("General note");
+    databaseHelper.saveNoteType(noteType, TENANT);
+    linkId = databaseHelper.saveLink(OBJECT_ID, OBJECT_TYPE, TENANT);
+    noteId = saveNote("First");
+  }
+
+  @Test
+  @DisplayName("Repeated query is served from cache without SQL statements")
+  void returnCachedCollection() throws Exception {
+    getNotes(QUERY)
+      .andExpect(jsonPath("$.notes", hasSize(1)))
+      .andExpect(jsonPath("$.notes.[0].title", is("First")));
+
+    saveNote("Second");
+
+    getNotes("  domain=users   and links.objectId = \"" + OBJECT_ID + "\" ")
+      .andExpect(jsonPath("$.notes", hasSize(1)))
+      .andExpect(jsonPath("$.totalRecords", is(1)))
+      .andExpect(sqlStatements(0));
+    getNotes(QUERY, 5)
+      .andExpect(jsonPath("$.notes", hasSize(2)));
+  }
+
+  @Test
+  @DisplayName("Note write invalidates cached results of the tenant")
+  void invalidateOnNoteWrite() throws Exception {
+    getNotes(QUERY).andExpect(jsonPath("$.notes", hasSize(1)));
+
+    var note = new Note().title("Second").domain(DOMAIN).typeId(noteType.getId())
+      .links(List.of(new Link().id(OBJECT_ID).type(OBJECT_TYPE)));
+    mockMvc.perform(post(NOTE_URL).headers(okapiHeaders()).content(asJsonString(note)))
+      .andExpect(status().isCreated());
+
+    getNotes(QUERY).andExpect(jsonPath("$.notes", hasSize(2)));
+  }
+
+  @Test
+  @DisplayName("Read after note update returns and caches the updated note")
+  void readAfterNoteUpdate() throws Exception {
+    getNotes(QUERY).andExpect(jsonPath("$.notes.[0].title", is("First")));
+
+    var note = new Note().title("Updated").domain(DOMAIN).typeId(noteType.getId())
+      .links(List.of(new Link().id(OBJECT_ID).type(OBJECT_TYPE)));
+    mockMvc.perform(put(NOTE_URL + "/{id}", noteId).headers(okapiHeaders()).content(asJsonString(note)))
+      .andExpect(status().isNoContent());
+
+    getNotes(QUERY).andExpect(jsonPath("$.notes.[0].title", is("Updated")));
+    getNotes(QUERY)
+      .andExpect(jsonPath("$.notes.[0].title", is("Updated")))
+      .andExpect(sqlStatements(0));
+  }
+
+  @Test
+  @DisplayName("Link update invalidates cached results of the tenant")
+  void invalidateOnLinkUpdate() throws Exception {
+    getNotes(QUERY).andExpect(jsonPath("$.notes", hasSize(1)));
+
+    var linkUpdates = new NoteLinkUpdateCollection()
+      .notes(List.of(new NoteLinkUpdate().id(noteId).status(LinkStatus.UNASSIGNED)));
+    mockMvc.perform(put("/note-links/type/{objectType}/id/{objectId}", OBJECT_TYPE, OBJECT_ID)
+        .headers(okapiHeaders()).content(asJsonString(linkUpdates)))
+      .andExpect(status().isNoContent());
+
+    getNotes(QUERY).andExpect(jsonPath("$.notes", hasSize(0)));
+  }
+
+  @Test
+  @DisplayName("Note type update invalidates cached results of the tenant")
+  void invalidateOnNoteTypeUpdate() throws Exception {
+    getNotes(QUERY).andExpect(jsonPath("$.notes.[0].type", is("General note")));
+
+    mockMvc.perform(put("/note-types/{id}", noteType.getId())
+        .headers(okapiHeaders()).content(asJsonString(new NoteType().name("Renamed"))))
+      .andExpect(status().isNoContent());
+
+    getNotes(QUERY).andExpect(jsonPath("$.notes.[0].type", is("Renamed")));
+  }
+
+  private ResultActions getNotes(String query) throws Exception {
+    return getNotes(query, 10);
+  }
+
+  private ResultActions getNotes(String query, int limit) throws Exception {
+    return mockMvc.perform(get(NOTE_URL + "?query={query}&limit={limit}", query, limit).headers(okapiHeaders()))
+      .andExpect(status().isOk());
+  }
+
+  private UUID saveNote(String title) {
+    var note = new NoteEntity();
+    note.setId(randomUUID());
+    note.setTitle(title);
+    note.setDomain(DOMAIN);
+    note.setType(noteType);
+    note.setCreatedBy(USER_ID);
+    databaseHelper.saveNote(note, TENANT);
+    databaseHelper.saveNoteLink(note.getId(), linkId, TENANT);
+    return note.getId();
+  }
+}
@@ -107,6 +107,9 @@ class NoteTypesControllerIT extends TestApiBase {
       .andExpect(jsonPath("$.noteTypes.[0].usage.isAssigned", is(true)))
       .andExpect(jsonPath("$.noteTypes.[1].usage.isAssigned", is(false)))
       .andExpect(jsonPath("$.noteTypes.[2].usage.isAssigned", is(true)))
+      .andExpect(jsonPath("$.noteTypes.[0].usage.noteCount", is(2)))
+      .andExpect(jsonPath("$.noteTypes.[1].usage.noteCount", is(0)))
+      .andExpect(jsonPath("$.noteTypes.[2].usage.noteCount", is(3)))
       .andExpect(jsonPath("$.totalRecords").value(3));
   }
 
@@ -275,6 +278,25 @@ class NoteTypesControllerIT extends TestApiBase {
       .andExpect(jsonPath("$.metadata.createdByUsername").doesNotExist());
   }
 
+  @Test
+  @DisplayName("Find note-type with note usage by ID after note deletion")
+  void returnNoteTypeWithNoteUsageByIdAfterNoteDeletion() throws Exception {
+    NoteTypeEntity existNoteType = createNoteType("ByIdAfterDeletion");
+    var note = new Note().title("First").typeId(existNoteType.getId()).domain("domain");
+    var noteAsString = mockMvc.perform(postNote(note))
+      .andExpect(status().isCreated())
+      .andReturn().getResponse().getContentAsString();
+    var savedNote = OBJECT_MAPPER.readValue(noteAsString, Note.class);
+
+    mockMvc.perform(delete(NOTE_URL + "/{id}", savedNote.getId()).headers(okapiHeaders()))
+      .andExpect(status().isNoContent());
+
+    mockMvc.perform(getById(existNoteType.getId()))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.usage.isAssigned", is(false)))
+      .andExpect(jsonPath("$.usage.noteCount", is(0)));
+  }
+
   @Test
   @DisplayName("Find note-type with note usage by ID")
   void returnNoteTypeWithNoteUsageById() throws Exception {
@@ -295,6 +317,7 @@ class NoteTypesControllerIT extends TestApiBase {
       .andExpect(jsonPath("$.id", is(existNoteType.getId().toString())))
       .andExpect(jsonPath("$.name", is(existNoteType.getName())))
       .andExpect(jsonPath("$.usage.isAssigned", is(true)))
+      .andExpect(jsonPath("$.usage.noteCount", is(2)))
       .andExpect(jsonPath("$.metadata.createdDate").isNotEmpty());
   }
 
@@ -359,6 +382,64 @@ class NoteTypesControllerIT extends TestApiBase {
       .andExpect(errorMessageMatch(containsString("was not found")));
   }
 
+  // Tests for entity tags
+
+  @Test
+  @DisplayName("Return 304 on get note-type by ID when it is not modified")
+  void return304OnGetByIdWhenNotModified() throws Exception {
+    var existNoteType = createNoteType("Cached");
+    var etag = mockMvc.perform(getById(existNoteType.getId()))
+      .andExpect(status().isOk())
+      .andExpect(header().exists(HttpHeaders.ETAG))
+      .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(getById(existNoteType.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+      .andExpect(status().isNotModified())
+      .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+    mockMvc.perform(putById(existNoteType.getId(), new NoteType().name("Renamed")))
+      .andExpect(status().isNoContent());
+    mockMvc.perform(getById(existNoteType.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.name", is("Renamed")))
+      .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+  }
+
+  @Test
+  @DisplayName("Return 304 on get note-types until a note type or its usage changes")
+  void return304OnGetCollectionWhenNotModified() throws Exception {
+    var noteType = createNoteType("Used");
+    var etag = mockMvc.perform(get(BASE_URL).headers(okapiHeaders()))
+      .andExpect(status().isOk())
+      .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get(BASE_URL).headers(okapiHeaders()).header(HttpHeaders.IF_NONE_MATCH, etag))
+      .andExpect(status().isNotModified());
+    mockMvc.perform(get(BASE_URL).queryParam("limit", "1").headers(okapiHeaders())
+        .header(HttpHeaders.IF_NONE_MATCH, etag))
+      .andExpect(status().isOk());
+
+    mockMvc.perform(postNote(new Note().title("Note").domain("Domain").typeId(noteType.getId())))
+      .andExpect(status().isCreated());
+    mockMvc.perform(get(BASE_URL).headers(okapiHeaders()).header(HttpHeaders.IF_NONE_MATCH, etag))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.noteTypes.[0].usage.noteCount", is(1)));
+  }
+
+  @Test
+  @DisplayName("Return 412 on put note-type with outdated If-Match")
+  void return412OnPutWithOutdatedIfMatch() throws Exception {
+    var existNoteType = createNoteType("Versioned");
+    var etag = mockMvc.perform(getById(existNoteType.getId()))
+      .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(putById(existNoteType.getId(), new NoteType().name("First")).header(HttpHeaders.IF_MATCH, etag))
+      .andExpect(status().isNoContent());
+    mockMvc.perform(putById(existNoteType.getId(), new NoteType().name("Second")).header(HttpHeaders.IF_MATCH, etag))
+      .andExpect(status().isPreconditionFailed())
+      .andExpect(errorMessageMatch(containsString("version 0 is expected")));
+  }
+
   // Tests for DELETE
 
   @Test
@@ -1,47 +1,73 @@
 package org.folio.notes.controller;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
 import static java.util.UUID.randomUUID;
 import static org.apache.commons.lang3.RandomStringUtils.insecure;
+import static org.awaitility.Awaitility.await;
+import static org.folio.notes.metrics.NotesMetrics.PAGE_SIZE_METRIC;
+import static org.folio.notes.metrics.NotesMetrics.SERVICE_OPERATIONS_METRIC;
+import static org.folio.notes.metrics.NotesMetrics.USERS_CLIENT_METRIC;
 import static org.folio.notes.support.DatabaseHelper.LINK;
 import static org.folio.notes.support.DatabaseHelper.NOTE;
 import static org.folio.notes.support.DatabaseHelper.TYPE;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.emptyOrNullString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.matchesRegex;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.ConstraintViolationException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Stream;
+import javax.sql.DataSource;
 import org.apache.http.HttpStatus;
 import org.folio.notes.domain.dto.Link;
 import org.folio.notes.domain.dto.LinkStatus;
 import org.folio.notes.domain.dto.Note;
 import org.folio.notes.domain.dto.NoteCollection;
+import org.folio.notes.domain.dto.NoteLinkCountsRequest;
 import org.folio.notes.domain.dto.NoteLinkUpdate;
 import org.folio.notes.domain.dto.NoteLinkUpdateCollection;
 import org.folio.notes.domain.dto.NoteType;
+import org.folio.notes.domain.dto.TotalRecordsStrategy;
 import org.folio.notes.domain.dto.User;
 import org.folio.notes.domain.entity.NoteEntity;
 import org.folio.notes.domain.entity.NoteTypeEntity;
+import org.folio.notes.domain.entity.UserSnapshot;
+import org.folio.notes.domain.repository.NoteCursor;
 import org.folio.notes.exception.NoteNotFoundException;
 import org.folio.notes.support.TestApiBase;
 import org.folio.spring.cql.CqlQueryValidationException;
@@ -55,8 +81,11 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.ResultMatcher;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
@@ -90,6 +119,10 @@ class NotesControllerIT extends TestApiBase {
 
   @Value("${folio.notes.types.defaults.limit}")
   private String defaultNoteTypeLimit;
+  @Autowired
+  private DataSource dataSource;
+  @Autowired
+  private MeterRegistry meterRegistry;
 
   @BeforeEach
   void setUp() {
@@ -121,7 +154,8 @@ class NotesControllerIT extends TestApiBase {
       .andExpect(jsonPath("$.notes.[1]", not(emptyOrNullString())))
       .andExpect(jsonPath("$.notes.[0].title", is(notes.getFirst().getTitle())))
       .andExpect(jsonPath("$.notes.[1].title", is(notes.get(1).getTitle())))
-      .andExpect(jsonPath("$.totalRecords").value(notes.size()));
+      .andExpect(jsonPath("$.totalRecords").value(notes.size()))
+      .andExpect(sqlStatements(3));
   }
 
   @Test
@@ -172,6 +206,73 @@ class NotesControllerIT extends TestApiBase {
       .andExpect(jsonPath("$.totalRecords").value(1));
   }
 
+  @Test
+  @DisplayName("Find all notes page by page with cursor")
+  void returnCollectionPageByPageWithCursor() throws Exception {
+    createListOfNotes();
+    var sortedIds = Arrays.stream(NOTE_IDS).map(UUID::toString).sorted().toList();
+
+    var firstPage = getNoteCollection(get(NOTE_URL + "?cursor={cursor}&limit=2", NoteCursor.FIRST_PAGE));
+    assertEquals(3, firstPage.getTotalRecords());
+    assertEquals(sortedIds.subList(0, 2), firstPage.getNotes().stream().map(note -> note.getId().toString()).toList());
+    assertNotNull(firstPage.getNextCursor());
+
+    var lastPage = getNoteCollection(get(NOTE_URL + "?cursor={cursor}&limit=2", firstPage.getNextCursor()));
+    assertEquals(3, lastPage.getTotalRecords());
+    assertEquals(sortedIds.subList(2, 3), lastPage.getNotes().stream().map(note -> note.getId().toString()).toList());
+    assertNull(lastPage.getNextCursor());
+  }
+
+  @Test
+  @DisplayName("Return 422 on get collection with cursor and sortBy in CQL query")
+  void return422OnGetCollectionWithCursorAndSortedCqlQuery() throws Exception {
+    mockMvc.perform(get(NOTE_URL + "?cursor={cursor}&query={cql}", NoteCursor.FIRST_PAGE,
+        "cql.allRecords=1 sortBy title")
+        .headers(okapiHeaders()))
+      .andExpect(status().isUnprocessableContent())
+      .andExpect(errorMessageMatch(containsString("Cursor can't be used with a query that has sortBy")));
+  }
+
+  @Test
+  @DisplayName("Find all notes without counting total records")
+  void returnCollectionWithoutTotalRecords() throws Exception {
+    createListOfNotes();
+
+    mockMvc.perform(get(NOTE_URL + "?limit=1&totalRecords=none").headers(okapiHeaders()))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.notes", hasSize(1)))
+      .andExpect(jsonPath("$.totalRecords").doesNotExist())
+      .andExpect(jsonPath("$.totalRecordsStrategy", is("none")));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "capped:2, 2, capped",
+    "capped:5, 3, exact",
+    "estimated, 3, exact",
+    "exact, 3, exact"
+  })
+  @DisplayName("Find all notes with total records counted by strategy")
+  void returnCollectionWithTotalRecordsCountedByStrategy(String totalRecords, int expectedTotalRecords,
+                                                          String expectedStrategy) throws Exception {
+    createListOfNotes();
+
+    mockMvc.perform(get(NOTE_URL + "?limit=1&totalRecords={totalRecords}", totalRecords).headers(okapiHeaders()))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.notes", hasSize(1)))
+      .andExpect(jsonPath("$.totalRecords").value(expectedTotalRecords))
+      .andExpect(jsonPath("$.totalRecordsStrategy", is(expectedStrategy)));
+  }
+
+  @Test
+  @DisplayName("Return 422 on get collection with invalid totalRecords")
+  void return422OnGetCollectionWithInvalidTotalRecords() throws Exception {
+    mockMvc.perform(get(NOTE_URL + "?totalRecords={totalRecords}", "capped:0")
+        .headers(okapiHeaders()))
+      .andExpect(status().isUnprocessableContent())
+      .andExpect(exceptionMatch(ConstraintViolationException.class));
+  }
+
   @Test
   @DisplayName("Return 422 on get collection with invalid CQL query")
   void return422OnGetCollectionWithInvalidCqlQuery() throws Exception {
@@ -203,6 +304,58 @@ class NotesControllerIT extends TestApiBase {
       .andExpect(errorMessageMatch(containsString("must be greater than or equal to 1")));
   }
 
+  @Test
+  @DisplayName("Export all notes of domain")
+  void exportNotesByDomain() throws Exception {
+    createListOfNotes();
+
+    var notes = exportNotes(NOTE_URL + "/export?domain={domain}", NOTE_DOMAINS[1]);
+
+    MatcherAssert.assertThat(notes.stream().map(Note::getTitle).toList(),
+      containsInAnyOrder(NOTE_TITLES[1], NOTE_TITLES[2]));
+  }
+
+  @Test
+  @DisplayName("Export notes assigned to object with links")
+  void exportNotesByObject() throws Exception {
+    createListOfNotes();
+    createLinks(NOTE_IDS[0], NOTE_IDS[2]);
+
+    var notes = exportNotes(NOTE_URL + "/export?objectType={type}&objectId={id}", PACKAGE_TYPE, PACKAGE_ID_1);
+
+    MatcherAssert.assertThat(notes.stream().map(Note::getId).toList(), containsInAnyOrder(NOTE_IDS[0], NOTE_IDS[2]));
+    notes.forEach(note -> assertEquals(List.of(new Link().type(PACKAGE_TYPE).id(PACKAGE_ID_1)), note.getLinks()));
+  }
+
+  @Test
+  @DisplayName("Export notes by CQL query")
+  void exportNotesByCqlQuery() throws Exception {
+    createListOfNotes();
+
+    var notes = exportNotes(NOTE_URL + "/export?query={cql}", "title=" + NOTE_TITLES[0]);
+
+    assertEquals(List.of(NOTE_IDS[0]), notes.stream().map(Note::getId).toList());
+  }
+
+  @Test
+  @DisplayName("Return 422 on export with objectType and without objectId")
+  void return422OnExportWithObjectTypeOnly() throws Exception {
+    mockMvc.perform(get(NOTE_URL + "/export?objectType={type}", PACKAGE_TYPE)
+        .headers(okapiHeaders()))
+      .andExpect(status().isUnprocessableContent())
+      .andExpect(exceptionMatch(IllegalArgumentException.class))
+      .andExpect(errorMessageMatch(containsString("objectType and objectId must be used together")));
+  }
+
+  @Test
+  @DisplayName("Return 422 on export with invalid CQL query")
+  void return422OnExportWithInvalidCqlQuery() throws Exception {
+    mockMvc.perform(get(NOTE_URL + "/export?query={cql}", "!invalid-cql!")
+        .headers(okapiHeaders()))
+      .andExpect(status().isUnprocessableContent())
+      .andExpect(exceptionMatch(CqlQueryValidationException.class));
+  }
+
   @Test
   @DisplayName("Create new note")
   void createNewNote() throws Exception {
@@ -257,6 +410,26 @@ class NotesControllerIT extends TestApiBase {
     assertEquals(1, rowsInTable);
   }
 
+  @Test
+  @DisplayName("Create new notes with shared links")
+  void createNewNotesWithSharedLinks() throws Exception {
+    var noteType = new NoteType().name(insecure().nextAlphabetic(100));
+    var contentAsString = mockMvc.perform(postNoteType(noteType)).andReturn().getResponse().getContentAsString();
+    var existingNoteType = OBJECT_MAPPER.readValue(contentAsString, NoteType.class);
+    var links = List.of(new Link(PACKAGE_ID_1, PACKAGE_TYPE), new Link(PACKAGE_ID_2, PACKAGE_TYPE),
+      new Link(PACKAGE_ID_1, PACKAGE_TYPE));
+
+    for (var title : NOTE_TITLES) {
+      var note = new Note().title(title).domain(DOMAIN).typeId(existingNoteType.getId()).links(links);
+      mockMvc.perform(postNote(note))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.links.length()", is(2)));
+    }
+
+    assertEquals(NOTE_TITLES.length, databaseHelper.countRowsInTable(TENANT, NOTE));
+    assertEquals(2, databaseHelper.countRowsInTable(TENANT, LINK));
+  }
+
   // Tests for POST
 
   @Test
@@ -295,7 +468,106 @@ class NotesControllerIT extends TestApiBase {
       .andExpect(jsonPath("$.typeId", is(note.getType().getId().toString())))
       .andExpect(jsonPath("$.metadata.createdDate").isNotEmpty())
       .andExpect(jsonPath("$.metadata.createdByUserId").isNotEmpty())
-      .andExpect(jsonPath("$.metadata.createdByUsername").isNotEmpty());
+      .andExpect(jsonPath("$.metadata.createdByUsername").isNotEmpty())
+      .andExpect(sqlStatements(1));
+  }
+
+  @Test
+  @DisplayName("Find note by ID with creator and updater resolved at once")
+  void returnByIdWithUsersResolvedAtOnce() throws Exception {
+    var updater = new User(randomUUID(), "updater", new User.UserPersonal("John", "Doe", null));
+    stubUsers(new User(USER_ID, "test_user", null), updater);
+    var note = prepareNote(0);
+    note.setUpdatedBy(updater.id());
+    databaseHelper.saveNote(note, TENANT);
+
+    mockMvc.perform(getById(note.getId()))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.metadata.createdByUsername", is("test_user")))
+      .andExpect(jsonPath("$.metadata.updatedByUsername", is(updater.username())))
+      .andExpect(jsonPath("$.metadata.updatedBy.lastName", is("Doe")));
+
+    okapiServer.verify(1, getRequestedFor(urlPathEqualTo("/users")));
+    okapiServer.verify(0, getRequestedFor(urlPathMatching("/users/.*")));
+  }
+
+  @Test
+  @DisplayName("Find note by ID several times with user loaded once")
+  void returnByIdSeveralTimesWithUserLoadedOnce() throws Exception {
+    var note = createNote();
+
+    for (int i = 0; i < 3; i++) {
+      mockMvc.perform(getById(note.getId()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.metadata.createdByUsername", is("test_user")));
+    }
+
+    okapiServer.verify(1, getRequestedFor(urlPathEqualTo("/users/" + USER_ID)));
+  }
+
+  @Test
+  @DisplayName("Find note by ID with stored user snapshot")
+  void returnByIdWithStoredUserSnapshot() throws Exception {
+    var note = createNote();
+    databaseHelper.saveNoteCreatedBySnapshot(note.getId(), new UserSnapshot("stored_user", "Jane", "Roe", null),
+      TENANT);
+
+    mockMvc.perform(getById(note.getId()))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.metadata.createdByUsername", is("stored_user")))
+      .andExpect(jsonPath("$.metadata.createdBy.lastName", is("Roe")));
+
+    okapiServer.verify(0, getRequestedFor(urlPathMatching("/users.*")));
+  }
+
+  @Test
+  @DisplayName("Find note by ID without a database connection held while users are fetched")
+  void returnByIdWithConnectionReleasedBeforeUsersAreFetched() throws Exception {
+    var pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+    var activeConnections = new CopyOnWriteArrayList<Integer>();
+    var recording = new AtomicBoolean(true);
+    // WireMock server can't remove a request listener, so the listener is switched off when the test ends
+    okapiServer.addMockServiceRequestListener((request, response) -> {
+      if (recording.get() && request.getUrl().startsWith("/users")) {
+        activeConnections.add(pool.getActiveConnections());
+      }
+    });
+    try {
+      var note = createNote();
+
+      mockMvc.perform(getById(note.getId()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.type", is(note.getType().getName())))
+        .andExpect(jsonPath("$.metadata.createdByUsername", is("test_user")));
+    } finally {
+      recording.set(false);
+    }
+
+    assertEquals(List.of(0), activeConnections);
+  }
+
+  @Test
+  @DisplayName("Record metrics of note operations, pages and users requests")
+  void recordMetricsOfNoteOperations() throws Exception {
+    var notes = createListOfNotes();
+    var collectionCount = operationCount("getNoteCollection", "success");
+    var getCount = operationCount("getNote", "success");
+    var notFoundCount = operationCount("getNote", "error");
+    var usersCount = timerCount(USERS_CLIENT_METRIC, "tenant", TENANT, "operation", "fetchUserById");
+    var pageSizeSummary = meterRegistry.find(PAGE_SIZE_METRIC).tags("tenant", TENANT, "collection", "notes")
+      .summary();
+    var pageSizeTotal = pageSizeSummary == null ? 0 : pageSizeSummary.totalAmount();
+
+    mockMvc.perform(get(NOTE_URL).headers(okapiHeaders())).andExpect(status().isOk());
+    mockMvc.perform(getById(notes.getFirst().getId())).andExpect(status().isOk());
+    mockMvc.perform(getById(randomUUID())).andExpect(status().isNotFound());
+
+    assertEquals(collectionCount + 1, operationCount("getNoteCollection", "success"));
+    assertEquals(getCount + 1, operationCount("getNote", "success"));
+    assertEquals(notFoundCount + 1, operationCount("getNote", "error"));
+    assertEquals(usersCount + 1, timerCount(USERS_CLIENT_METRIC, "tenant", TENANT, "operation", "fetchUserById"));
+    assertEquals(pageSizeTotal + notes.size(), meterRegistry.get(PAGE_SIZE_METRIC)
+      .tags("tenant", TENANT, "collection", "notes").summary().totalAmount());
   }
 
   // Tests for GET by id
@@ -353,6 +625,18 @@ class NotesControllerIT extends TestApiBase {
       .andExpect(jsonPath("$.metadata.createdDate").isNotEmpty());
   }
 
+  @Test
+  @DisplayName("Update existing note within the statement budget")
+  void updateExistingNoteWithinStatementBudget() throws Exception {
+    var existNote = createNote();
+    var links = Collections.singletonList(new Link().id(PACKAGE_ID_1).type(PACKAGE_TYPE));
+    var updatedNote = new Note().title("Updated").domain(DOMAIN).typeId(existNote.getType().getId()).links(links);
+
+    mockMvc.perform(putById(existNote.getId(), updatedNote))
+      .andExpect(status().isNoContent())
+      .andExpect(sqlStatements(6));
+  }
+
   // Tests for PUT
 
   @Test
@@ -407,6 +691,120 @@ class NotesControllerIT extends TestApiBase {
       .andExpect(errorMessageMatch(containsString("was not found")));
   }
 
+  @Test
+  @DisplayName("Return 304 on get note by ID until the note or its links change")
+  void return304OnGetByIdWhenNotModified() throws Exception {
+    var note = generateNote();
+    var etag = mockMvc.perform(getById(note.getId()))
+      .andExpect(status().isOk())
+      .andExpect(header().string(HttpHeaders.ETAG, startsWith("\"0-")))
+      .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(getById(note.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+      .andExpect(status().isNotModified())
+      .andExpect(header().string(HttpHeaders.ETAG, etag))
+      .andExpect(content().string(""));
+
+    createLinks(note.getId());
+    mockMvc.perform(getById(note.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+      .andExpect(status().isOk())
+      .andExpect(header().string(HttpHeaders.ETAG, allOf(startsWith("\"0-"), not(etag))))
+      .andExpect(jsonPath("$._version", is(0)))
+      .andExpect(jsonPath("$.links.length()", is(2)));
+  }
+
+  @Test
+  @DisplayName("Return new ETag on get note by ID after its note type is renamed")
+  void returnNewETagOnGetByIdWhenNoteTypeRenamed() throws Exception {
+    var note = generateNote();
+    var etag = mockMvc.perform(getById(note.getId()))
+      .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(put(NOTE_TYPE_URL + "/{id}", note.getTypeId()).headers(okapiHeaders())
+        .content(asJsonString(new NoteType().name("Renamed"))))
+      .andExpect(status().isNoContent());
+
+    mockMvc.perform(getById(note.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+      .andExpect(status().isOk())
+      .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+      .andExpect(jsonPath("$._version", is(0)))
+      .andExpect(jsonPath("$.type", is("Renamed")));
+  }
+
+  @Test
+  @DisplayName("Return 304 on get notes by link until a note of the collection changes")
+  void return304OnGetByLinkWhenNotModified() throws Exception {
+    var link = new Link().id(randomUUID().toString()).type(PACKAGE_TYPE);
+    var note = generateNote(link);
+    var byLinkUrl = "/note-links/domain/" + DOMAIN + "/type/" + PACKAGE_TYPE + "/id/" + link.getId();
+    var etag = mockMvc.perform(get(byLinkUrl).headers(okapiHeaders()))
+      .andExpect(status().isOk())
+      .andExpect(header().exists(HttpHeaders.ETAG))
+      .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get(byLinkUrl).headers(okapiHeaders()).header(HttpHeaders.IF_NONE_MATCH, etag))
+      .andExpect(status().isNotModified())
+      .andExpect(header().string(HttpHeaders.ETAG, etag))
+      .andExpect(content().string(""));
+    mockMvc.perform(get(byLinkUrl + "?limit=1").headers(okapiHeaders()).header(HttpHeaders.IF_NONE_MATCH, etag))
+      .andExpect(status().isOk());
+
+    mockMvc.perform(putById(note.getId(), note.title("Changed")))
+      .andExpect(status().isNoContent());
+    mockMvc.perform(get(byLinkUrl).headers(okapiHeaders()).header(HttpHeaders.IF_NONE_MATCH, etag))
+      .andExpect(status().isOk())
+      .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+      .andExpect(jsonPath("$.notes[0].title", is("Changed")));
+  }
+
+  @Test
+  @DisplayName("Return new ETag on get notes by link after links of a note change")
+  void returnNewETagOnGetByLinkWhenLinksChange() throws Exception {
+    var link = new Link().id(randomUUID().toString()).type(PACKAGE_TYPE);
+    var note = generateNote(link);
+    var byLinkUrl = "/note-links/domain/" + DOMAIN + "/type/" + PACKAGE_TYPE + "/id/" + link.getId();
+    var etag = mockMvc.perform(get(byLinkUrl).headers(okapiHeaders()))
+      .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    createLinks(note.getId());
+    mockMvc.perform(get(byLinkUrl).headers(okapiHeaders()).header(HttpHeaders.IF_NONE_MATCH, etag))
+      .andExpect(status().isOk())
+      .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+      .andExpect(jsonPath("$.notes[0]._version", is(0)));
+  }
+
+  @Test
+  @DisplayName("Read notes by link without a separate ETag query")
+  void shouldReturnETagOnGetByLinkWithoutExtraStatement() throws Exception {
+    var link = new Link().id(randomUUID().toString()).type(PACKAGE_TYPE);
+    generateNote(link);
+    generateNote(link);
+
+    mockMvc.perform(get("/note-links/domain/" + DOMAIN + "/type/" + PACKAGE_TYPE + "/id/" + link.getId())
+        .headers(okapiHeaders()))
+      .andExpect(status().isOk())
+      .andExpect(header().exists(HttpHeaders.ETAG))
+      .andExpect(jsonPath("$.totalRecords", is(2)))
+      .andExpect(sqlStatements(2));
+  }
+
+  @Test
+  @DisplayName("Return 412 on update note with outdated If-Match")
+  void return412OnPutWithOutdatedIfMatch() throws Exception {
+    var note = generateNote();
+
+    mockMvc.perform(putById(note.getId(), note.title("First")).header(HttpHeaders.IF_MATCH, "\"0\""))
+      .andExpect(status().isNoContent());
+    mockMvc.perform(putById(note.getId(), note.title("Second")).header(HttpHeaders.IF_MATCH, "\"0\""))
+      .andExpect(status().isPreconditionFailed())
+      .andExpect(errorMessageMatch(containsString("version 0 is expected")));
+    mockMvc.perform(putById(note.getId(), note.title("Second")).header(HttpHeaders.IF_MATCH, "W/\"1\""))
+      .andExpect(status().isPreconditionFailed());
+
+    mockMvc.perform(getById(note.getId()))
+      .andExpect(jsonPath("$.title", is("First")));
+  }
+
   @Test
   @DisplayName("Delete existing note")
   void deleteExistingNoteType() throws Exception {
@@ -453,8 +851,177 @@ class NotesControllerIT extends TestApiBase {
     assertTrue(thirdResultNote.getLinks().stream().anyMatch(link -> link.getId().equals(PACKAGE_ID_1)));
   }
 
+  @Test
+  @DisplayName("Delete links of object and notes left without links")
+  void shouldDeleteLinksOfObject() throws Exception {
+    var sharedNote = generateNote();
+    var objectNote = generateNote(new Link(PACKAGE_ID_1, PACKAGE_TYPE));
+    var otherNote = generateNote();
+    createLinks(sharedNote.getId());
+    var linksCount = databaseHelper.countRowsInTable(TENANT, LINK);
+
+    mockMvc.perform(delete(NOTE_LINKS_PATH).headers(okapiHeaders()))
+      .andExpect(status().isNoContent());
+
+    mockMvc.perform(getById(objectNote.getId()))
+      .andExpect(status().isNotFound());
+    var notes = getNotes();
+    assertEquals(DEFAULT_LINK_AMOUNT, getNoteById(notes, sharedNote.getId()).getLinks().size());
+    assertEquals(otherNote.getLinks(), getNoteById(notes, otherNote.getId()).getLinks());
+    assertEquals(linksCount - 1, databaseHelper.countRowsInTable(TENANT, LINK));
+  }
+
+  @Test
+  @DisplayName("Delete links of object in background")
+  void shouldDeleteLinksOfObjectAsync() throws Exception {
+    var objectNote = generateNote(new Link(PACKAGE_ID_1, PACKAGE_TYPE));
+
+    mockMvc.perform(delete(NOTE_LINKS_PATH + "?async=true").headers(okapiHeaders()))
+      .andExpect(status().isAccepted());
+
+    await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+      mockMvc.perform(getById(objectNote.getId())).andExpect(status().isNotFound()));
+  }
+
+  @Test
+  @DisplayName("Delete links of object without notes")
+  void shouldDeleteLinksOfObjectWithoutNotes() throws Exception {
+    var note = generateNote();
+
+    mockMvc.perform(delete(NOTE_LINKS_PATH).headers(okapiHeaders()))
+      .andExpect(status().isNoContent());
+
+    mockMvc.perform(getById(note.getId()))
+      .andExpect(status().isOk());
+  }
+
+  @Test
+  @DisplayName("Count notes of objects")
+  void shouldCountNotesByLinks() throws Exception {
+    createListOfNotes();
+    createLinks(NOTE_IDS[0], NOTE_IDS[2]);
+    var request = new NoteLinkCountsRequest(List.of(new Link(PACKAGE_ID_1, PACKAGE_TYPE),
+      new Link(PACKAGE_ID_2, PACKAGE_TYPE)));
+
+    mockMvc.perform(postNoteLinkCounts(request))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.counts.length()", is(2)))
+      .andExpect(jsonPath("$.counts.[0].id", is(PACKAGE_ID_1)))
+      .andExpect(jsonPath("$.counts.[0].noteCount", is(2)))
+      .andExpect(jsonPath("$.counts.[1].id", is(PACKAGE_ID_2)))
+      .andExpect(jsonPath("$.counts.[1].noteCount", is(0)));
+  }
+
+  @ParameterizedTest
+  @CsvSource({"users,,1", "titles,Special,1", ",Special,1", "titles,General Note,0"})
+  @DisplayName("Count notes of objects by domain and note type")
+  void shouldCountNotesByLinksWithFilters(String domain, String noteType, int expectedCount) throws Exception {
+    createListOfNotes();
+    createLinks(NOTE_IDS[0], NOTE_IDS[2]);
+    var request = new NoteLinkCountsRequest(List.of(new Link(PACKAGE_ID_1, PACKAGE_TYPE)))
+      .domain(domain)
+      .noteTypes(noteType == null ? null : List.of(noteType));
+
+    mockMvc.perform(postNoteLinkCounts(request))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.counts.[0].noteCount", is(expectedCount)));
+  }
+
+  @Test
+  @DisplayName("Return 422 on count notes of objects without objects")
+  void return422OnCountNotesByLinksWithoutLinks() throws Exception {
+    mockMvc.perform(postNoteLinkCounts(new NoteLinkCountsRequest(List.of())))
+      .andExpect(status().isUnprocessableContent())
+      .andExpect(exceptionMatch(MethodArgumentNotValidException.class));
+  }
+
+  @Test
+  @DisplayName("Return pop-up notes of object by context")
+  void shouldReturnPopUpNotesByContext() throws Exception {
+    var link = new Link(UUID.randomUUID().toString(), PACKAGE_TYPE);
+    var checkOutNote = generateNote(link).popUpOnCheckOut(true);
+    var userNote = generateNote(link).popUpOnUser(true);
+    generateNote(link);
+    mockMvc.perform(putById(checkOutNote.getId(), checkOutNote)).andExpect(status().isNoContent());
+    mockMvc.perform(putById(userNote.getId(), userNote)).andExpect(status().isNoContent());
+
+    mockMvc.perform(getPopUpNotes(link, "checkout"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.notes.length()", is(1)))
+      .andExpect(jsonPath("$.notes.[0].id", is(checkOutNote.getId().toString())))
+      .andExpect(jsonPath("$.notes.[0].title", is(checkOutNote.getTitle())))
+      .andExpect(jsonPath("$.notes.[0].type", is(checkOutNote.getType())));
+    mockMvc.perform(getPopUpNotes(link, "user"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.notes.length()", is(1)))
+      .andExpect(jsonPath("$.notes.[0].id", is(userNote.getId().toString())));
+  }
+
+  @Test
+  @DisplayName("Load pop-up notes of object with one statement and serve repeated requests from the cache")
+  void shouldLoadPopUpNotesWithOneStatement() throws Exception {
+    var link = new Link(UUID.randomUUID().toString(), PACKAGE_TYPE);
+    var note = generateNote(link).popUpOnCheckOut(true);
+    mockMvc.perform(putById(note.getId(), note)).andExpect(status().isNoContent());
+
+    mockMvc.perform(getPopUpNotes(link, "checkout"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.notes.length()", is(1)))
+      .andExpect(sqlStatements(1));
+    mockMvc.perform(getPopUpNotes(link, "checkout"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.notes.length()", is(1)))
+      .andExpect(sqlStatements(0));
+  }
+
+  @Test
+  @DisplayName("Evict cached pop-up notes of object when notes are changed")
+  void shouldEvictPopUpNotesWhenNotesAreChanged() throws Exception {
+    var link = new Link(UUID.randomUUID().toString(), PACKAGE_TYPE);
+    var note = generateNote(link).popUpOnCheckOut(true);
+    mockMvc.perform(getPopUpNotes(link, "checkout"))
+      .andExpect(jsonPath("$.notes.length()", is(0)));
+
+    mockMvc.perform(putById(note.getId(), note)).andExpect(status().isNoContent());
+    mockMvc.perform(getPopUpNotes(link, "checkout"))
+      .andExpect(jsonPath("$.notes.length()", is(1)));
+
+    mockMvc.perform(deleteById(note.getId())).andExpect(status().isNoContent());
+    mockMvc.perform(getPopUpNotes(link, "checkout"))
+      .andExpect(jsonPath("$.notes.length()", is(0)));
+  }
+
+  @Test
+  @DisplayName("Evict cached pop-up notes when note type is renamed")
+  void shouldEvictPopUpNotesWhenNoteTypeIsRenamed() throws Exception {
+    var link = new Link(UUID.randomUUID().toString(), PACKAGE_TYPE);
+    var note = generateNote(link).popUpOnCheckOut(true);
+    mockMvc.perform(putById(note.getId(), note)).andExpect(status().isNoContent());
+    mockMvc.perform(getPopUpNotes(link, "checkout"))
+      .andExpect(jsonPath("$.notes.[0].type", is(note.getType())));
+
+    mockMvc.perform(put(NOTE_TYPE_URL + "/{id}", note.getTypeId()).headers(okapiHeaders())
+        .content(asJsonString(new NoteType().name("Renamed"))))
+      .andExpect(status().isNoContent());
+    mockMvc.perform(getPopUpNotes(link, "checkout"))
+      .andExpect(jsonPath("$.notes.[0].type", is("Renamed")));
+  }
+
   // Test for links
 
+  @Test
+  @DisplayName("Assign and unassign links of multiple notes with set-based statements")
+  void shouldUpdateLinksWithSetBasedStatements() throws Exception {
+    var noteIds = new UUID[] {generateNote().getId(), generateNote().getId()};
+
+    mockMvc.perform(updateLink(createNoteLinkUpdateCollection(LinkStatus.ASSIGNED, noteIds)))
+      .andExpect(status().isNoContent())
+      .andExpect(sqlStatements(2));
+    mockMvc.perform(updateLink(createNoteLinkUpdateCollection(LinkStatus.UNASSIGNED, noteIds)))
+      .andExpect(status().isNoContent())
+      .andExpect(sqlStatements(3));
+  }
+
   @Test
   @DisplayName("Remove links from multiple notes")
   void shouldRemoveLinksFromMultipleNotes() throws Exception {
@@ -555,6 +1122,23 @@ class NotesControllerIT extends TestApiBase {
     assertTrue(notes.isEmpty());
   }
 
+  @Test
+  @DisplayName("Should apply first status of duplicated note and ignore non-existing notes")
+  void shouldApplyFirstStatusOfDuplicatedNoteAndIgnoreNonExistingNotes() throws Exception {
+    var note = generateNote();
+
+    updateLinks(new NoteLinkUpdateCollection()
+      .notes(List.of(
+        createNoteLink(note.getId(), LinkStatus.ASSIGNED),
+        createNoteLink(note.getId(), LinkStatus.UNASSIGNED),
+        createNoteLink(randomUUID(), LinkStatus.ASSIGNED))
+      ));
+    List<Note> notes = getNotes();
+
+    assertEquals(1, notes.size());
+    assertEquals(DEFAULT_LINK_AMOUNT + 1, getNoteById(notes, note.getId()).getLinks().size());
+  }
+
   @Test
   @DisplayName("Should return list of notes without parameters")
   void shouldReturnListOfNotesWithoutParameters() throws Exception {
@@ -856,6 +1440,22 @@ class NotesControllerIT extends TestApiBase {
     assertEquals(secondNote.getTitle(), notes.get(1).getTitle());
   }
 
+  @Test
+  @DisplayName("Should return list of notes searched by updated title and unchanged content")
+  void shouldReturnListOfNotesSearchedByUpdatedTitleAndUnchangedContent() throws Exception {
+    var note = generateNote().title("Title ABC").content("<p>first line</p>\n<p>second &amp; line</p>");
+    mockMvc.perform(putById(note.getId(), note)).andExpect(status().isNoContent());
+    createLinks(note.getId());
+
+    note.title("Title XYZ");
+    mockMvc.perform(putById(note.getId(), note)).andExpect(status().isNoContent());
+
+    var url = "/note-links/domain/" + DOMAIN + "/type/" + PACKAGE_TYPE + "/id/" + PACKAGE_ID_1 + "?search={search}";
+    assertEquals(1, getNoteCollection(get(url, "xyz first line")).getNotes().size());
+    assertEquals(1, getNoteCollection(get(url, "line second")).getNotes().size());
+    assertEquals(0, getNoteCollection(get(url, "abc")).getNotes().size());
+  }
+
   @Test
   @DisplayName("Should interpret special regex characters literally")
   void shouldInterpretSpecialRegexCharactersLiterally() throws Exception {
@@ -870,6 +1470,79 @@ class NotesControllerIT extends TestApiBase {
     assertEquals(firstNote.getTitle(), notes.getFirst().getTitle());
   }
 
+  @ParameterizedTest
+  @CsvSource({
+    "quick fox, 1",
+    "'\"brown fox\"', 1",
+    "fox OR dog, 2",
+    "qui*, 1",
+    "dog -lazy, 0"
+  })
+  @DisplayName("Should return list of notes searched in the fulltext mode")
+  void shouldReturnListOfNotesSearchedInFulltextMode(String search, int expectedCount) throws Exception {
+    var firstNote = generateNote().title("Fox").content("<p>The quick brown fox</p>");
+    var secondNote = generateNote().title("Dog").content("<p>The lazy dog</p>");
+    var thirdNote = generateNote().title("Cat").content("<p>The brown cat</p>");
+
+    mockMvc.perform(putById(firstNote.getId(), firstNote)).andExpect(status().isNoContent());
+    mockMvc.perform(putById(secondNote.getId(), secondNote)).andExpect(status().isNoContent());
+    mockMvc.perform(putById(thirdNote.getId(), thirdNote)).andExpect(status().isNoContent());
+
+    createLinks(firstNote.getId());
+    createLinks(secondNote.getId());
+    createLinks(thirdNote.getId());
+
+    var notes = getNoteCollection(get("/note-links/domain/" + DOMAIN + "/type/" + PACKAGE_TYPE + "/id/" + PACKAGE_ID_1
+                                      + "?search={search}&searchMode=fulltext", search));
+
+    assertEquals(expectedCount, notes.getNotes().size());
+  }
+
+  @Test
+  @DisplayName("Should return list of notes searched in the fulltext mode and sorted by relevance")
+  void shouldReturnListOfNotesSortedByRelevance() throws Exception {
+    var firstNote = generateNote().title("Title ABC").content("<p>report</p>");
+    var secondNote = generateNote().title("Report").content("<p>report about the report</p>");
+    var thirdNote = generateNote().title("Title TTT").content("<p>nothing</p>");
+
+    mockMvc.perform(putById(firstNote.getId(), firstNote)).andExpect(status().isNoContent());
+    mockMvc.perform(putById(secondNote.getId(), secondNote)).andExpect(status().isNoContent());
+    mockMvc.perform(putById(thirdNote.getId(), thirdNote)).andExpect(status().isNoContent());
+
+    createLinks(firstNote.getId());
+    createLinks(secondNote.getId());
+    createLinks(thirdNote.getId());
+
+    var content = getNoteLinks("/note-links/domain/" + DOMAIN + "/type/" + PACKAGE_TYPE + "/id/" + PACKAGE_ID_1
+                               + "?search=report&searchMode=fulltext&orderBy=relevance");
+    var notes = OBJECT_MAPPER.readValue(content, NoteCollection.class).getNotes();
+
+    assertEquals(2, notes.size());
+    assertEquals(secondNote.getTitle(), notes.getFirst().getTitle());
+    assertEquals(firstNote.getTitle(), notes.get(1).getTitle());
+  }
+
+  @Test
+  @DisplayName("Should return 422 when notes are sorted by relevance without the fulltext search")
+  void shouldReturn422WhenSortedByRelevanceWithoutFulltextSearch() throws Exception {
+    mockMvc.perform(get("/note-links/domain/" + DOMAIN + "/type/" + PACKAGE_TYPE + "/id/" + PACKAGE_ID_1
+                        + "?search=report&orderBy=relevance")
+        .headers(okapiHeaders()))
+      .andExpect(status().isUnprocessableContent())
+      .andExpect(errorMessageMatch(containsString("Ordering by relevance requires search in the fulltext mode")));
+  }
+
+  @Test
+  @DisplayName("Should return 422 when notes sorted by relevance are requested with cursor")
+  void shouldReturn422WhenSortedByRelevanceWithCursor() throws Exception {
+    mockMvc.perform(get("/note-links/domain/" + DOMAIN + "/type/" + PACKAGE_TYPE + "/id/" + PACKAGE_ID_1
+                        + "?search=report&searchMode=fulltext&orderBy=relevance&cursor={cursor}",
+          NoteCursor.FIRST_PAGE)
+        .headers(okapiHeaders()))
+      .andExpect(status().isUnprocessableContent())
+      .andExpect(errorMessageMatch(containsString("Cursor can't be used with ordering by relevance")));
+  }
+
   @Test
   @DisplayName("Should return list of assigned notes searched and sorted by title")
   void shouldReturnListOfAssignedNotesSearchedAndSortedByTitle() throws Exception {
@@ -1004,6 +1677,109 @@ class NotesControllerIT extends TestApiBase {
     assertEquals(3, notes.getNotes().size());
   }
 
+  @Test
+  @DisplayName("Should return page of notes with several links sorted by title with offset and limit")
+  void shouldReturnPageOfNotesWithSeveralLinksSortedByTitle() throws Exception {
+    var firstNote = generateNote().title("ABC");
+    var secondNote = generateNote().title("MNO");
+    var thirdNote = generateNote().title("XYZ");
+    for (var note : List.of(thirdNote, firstNote, secondNote)) {
+      mockMvc.perform(putById(note.getId(), note)).andExpect(status().isNoContent());
+      createLinks(note.getId());
+    }
+
+    var content = getNoteLinks("/note-links/domain/" + DOMAIN + "/type/" + PACKAGE_TYPE + "/id/" + PACKAGE_ID_1
+                               + "?orderBy=title&order=asc&offset=1&limit=1");
+    var notes = OBJECT_MAPPER.readValue(content, NoteCollection.class);
+
+    assertEquals(3, notes.getTotalRecords());
+    assertEquals(1, notes.getNotes().size());
+    assertEquals(secondNote.getTitle(), notes.getNotes().getFirst().getTitle());
+    assertEquals(2, notes.getNotes().getFirst().getLinks().size());
+  }
+
+  @Test
+  @DisplayName("Should return notes sorted by title page by page with cursor")
+  void shouldReturnNotesSortedByTitlePageByPageWithCursor() throws Exception {
+    var firstNote = generateNote().title("ABC");
+    var secondNote = generateNote().title("MNO");
+    var thirdNote = generateNote().title("XYZ");
+    for (var note : List.of(thirdNote, firstNote, secondNote)) {
+      mockMvc.perform(putById(note.getId(), note)).andExpect(status().isNoContent());
+      createLinks(note.getId());
+    }
+    var url = "/note-links/domain/" + DOMAIN + "/type/" + PACKAGE_TYPE + "/id/" + PACKAGE_ID_1
+              + "?orderBy=title&order=desc&limit=2&cursor={cursor}";
+
+    var firstPage = getNoteCollection(get(url, NoteCursor.FIRST_PAGE));
+    assertEquals(3, firstPage.getTotalRecords());
+    assertEquals(List.of(thirdNote.getTitle(), secondNote.getTitle()),
+      firstPage.getNotes().stream().map(Note::getTitle).toList());
+    assertNotNull(firstPage.getNextCursor());
+
+    var lastPage = getNoteCollection(get(url, firstPage.getNextCursor()));
+    assertEquals(List.of(firstNote.getTitle()), lastPage.getNotes().stream().map(Note::getTitle).toList());
+    assertNull(lastPage.getNextCursor());
+  }
+
+  @Test
+  @DisplayName("Should return cursor of the sort field and note id without note content")
+  void shouldReturnCursorWithoutNoteContent() throws Exception {
+    for (var title : List.of("ABC", "XYZ")) {
+      var note = generateNote().title(title).content("content ".repeat(2000));
+      mockMvc.perform(putById(note.getId(), note)).andExpect(status().isNoContent());
+      createLinks(note.getId());
+    }
+    var url = "/note-links/domain/" + DOMAIN + "/type/" + PACKAGE_TYPE + "/id/" + PACKAGE_ID_1
+              + "?orderBy=title&limit=1&cursor={cursor}";
+
+    var firstPage = getNoteCollection(get(url, NoteCursor.FIRST_PAGE));
+
+    var keys = NoteCursor.decode(firstPage.getNextCursor(), Sort.by("title", "id")).keys();
+    assertEquals(List.of("title", "id"), keys.stream().map(NoteCursor.Key::property).toList());
+    assertEquals("ABC", keys.getFirst().value());
+  }
+
+  @Test
+  @DisplayName("Should return 422 when cursor was created for another order")
+  void shouldReturn422WhenCursorWasCreatedForAnotherOrder() throws Exception {
+    generateNote();
+    generateNote();
+    var url = "/note-links/domain/" + DOMAIN + "/type/" + PACKAGE_TYPE + "/id/" + PACKAGE_ID_1;
+    var firstPage = getNoteCollection(get(url + "?orderBy=title&limit=1&cursor={cursor}", NoteCursor.FIRST_PAGE));
+
+    mockMvc.perform(get(url + "?orderBy=updatedDate&limit=1&cursor={cursor}", firstPage.getNextCursor())
+        .headers(okapiHeaders()))
+      .andExpect(status().isUnprocessableContent())
+      .andExpect(errorMessageMatch(containsString("Invalid cursor")));
+  }
+
+  @Test
+  @DisplayName("Should return 422 when cursor is used together with offset")
+  void shouldReturn422WhenCursorIsUsedWithOffset() throws Exception {
+    mockMvc.perform(get("/note-links/domain/" + DOMAIN + "/type/" + PACKAGE_TYPE + "/id/" + PACKAGE_ID_1
+                        + "?offset=1&cursor={cursor}", NoteCursor.FIRST_PAGE)
+        .headers(okapiHeaders()))
+      .andExpect(status().isUnprocessableContent())
+      .andExpect(errorMessageMatch(containsString("Offset can't be used together with cursor")));
+  }
+
+  @Test
+  @DisplayName("Should return page of notes with capped total records")
+  void shouldReturnPageOfNotesWithCappedTotalRecords() throws Exception {
+    generateNote();
+    generateNote();
+    generateNote();
+
+    var content = getNoteLinks("/note-links/domain/" + DOMAIN + "/type/" + PACKAGE_TYPE + "/id/" + PACKAGE_ID_1
+                               + "?limit=1&totalRecords=capped:2");
+    var notes = OBJECT_MAPPER.readValue(content, NoteCollection.class);
+
+    assertEquals(1, notes.getNotes().size());
+    assertEquals(2, notes.getTotalRecords());
+    assertEquals(TotalRecordsStrategy.CAPPED, notes.getTotalRecordsStrategy());
+  }
+
   @Test
   @DisplayName("Should return 400 with error message wrong order")
   void shouldReturn400WithErrorMessageWrongOrder() throws Exception {
@@ -1066,11 +1842,14 @@ class NotesControllerIT extends TestApiBase {
   }
 
   private Note generateNote() throws Exception {
+    return generateNote(new Link().id(UUID.randomUUID().toString()).type(DOMAIN));
+  }
+
+  private Note generateNote(Link link) throws Exception {
     var noteType = new NoteType().name(insecure().nextAlphabetic(100));
     var notyTypeAsString = mockMvc.perform(postNoteType(noteType)).andExpect(status().isCreated())
       .andReturn().getResponse().getContentAsString();
     var existingNoteType = OBJECT_MAPPER.readValue(notyTypeAsString, NoteType.class);
-    var link = new Link().id(UUID.randomUUID().toString()).type(DOMAIN);
     var note = new Note().title(NOTE_TITLES[0]).domain(DOMAIN).typeId(existingNoteType.getId())
       .links(Collections.singletonList(link));
     var noteAsString = mockMvc.perform(postNote(note)).andExpect(status().isCreated())
@@ -1107,6 +1886,25 @@ class NotesControllerIT extends TestApiBase {
       .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
   }
 
+  private NoteCollection getNoteCollection(MockHttpServletRequestBuilder request) throws Exception {
+    var content = mockMvc.perform(request.headers(okapiHeaders()))
+      .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+    return OBJECT_MAPPER.readValue(content, NoteCollection.class);
+  }
+
+  private List<Note> exportNotes(String url, Object... uriVars) throws Exception {
+    var result = mockMvc.perform(get(url, uriVars).headers(okapiHeaders()))
+      .andExpect(request().asyncStarted())
+      .andReturn();
+    var content = mockMvc.perform(asyncDispatch(result))
+      .andExpect(status().isOk())
+      .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE))
+      .andReturn().getResponse().getContentAsString();
+    return content.lines()
+      .map(line -> OBJECT_MAPPER.readValue(line, Note.class))
+      .toList();
+  }
+
   private MockHttpServletRequestBuilder updateLink(NoteLinkUpdateCollection noteLinkUpdateCollection) {
     return put(NOTE_LINKS_PATH)
       .content(asJsonString(noteLinkUpdateCollection))
@@ -1143,6 +1941,16 @@ class NotesControllerIT extends TestApiBase {
     return notes;
   }
 
+  private long operationCount(String operation, String outcome) {
+    return timerCount(SERVICE_OPERATIONS_METRIC, "tenant", TENANT, "service", "NotesService",
+      "operation", operation, "outcome", outcome);
+  }
+
+  private long timerCount(String name, String... tags) {
+    var timer = meterRegistry.find(name).tags(tags).timer();
+    return timer == null ? 0 : timer.count();
+  }
+
   private NoteEntity createNote() {
     var noteEntity = prepareNote(0);
     databaseHelper.saveNote(noteEntity, TENANT);
@@ -1180,6 +1988,18 @@ class NotesControllerIT extends TestApiBase {
       .content(asJsonString(note));
   }
 
+  private MockHttpServletRequestBuilder postNoteLinkCounts(NoteLinkCountsRequest request) {
+    return post("/note-links/counts")
+      .content(asJsonString(request))
+      .headers(okapiHeaders());
+  }
+
+  private MockHttpServletRequestBuilder getPopUpNotes(Link link, String context) {
+    return get("/note-links/type/{objectType}/id/{objectId}/pop-ups", link.getType(), link.getId())
+      .queryParam("context", context)
+      .headers(okapiHeaders());
+  }
+
   private MockHttpServletRequestBuilder postNoteType(NoteType noteType) {
     return post(NOTE_TYPE_URL)
       .headers(okapiHeaders())
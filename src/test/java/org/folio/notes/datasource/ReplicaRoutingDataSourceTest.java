@@ -0,0 +1,100 @@
+package org.folio.notes.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.UUID;
+import org.folio.notes.datasource.ReplicaRoutingDataSource.Route;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReplicaRoutingDataSourceTest {
+
+  private static final String TENANT = "test";
+  private static final UUID USER_ID = UUID.randomUUID();
+
+  @Mock
+  private ReplicaLagMonitor lagMonitor;
+  @Mock
+  private FolioExecutionContext context;
+
+  private final RecentWrites recentWrites = new RecentWrites(Duration.ofMinutes(1));
+  private ReplicaRoutingDataSource dataSource;
+
+  @BeforeEach
+  void setUp() {
+    when(context.getTenantId()).thenReturn(TENANT);
+    when(context.getUserId()).thenReturn(USER_ID);
+    when(lagMonitor.isReplicaAvailable()).thenReturn(true);
+    dataSource = new ReplicaRoutingDataSource(lagMonitor, recentWrites, context);
+  }
+
+  @AfterEach
+  void tearDown() {
+    ReplicaRoutingDataSource.clearReadOnly();
+  }
+
+  @Test
+  void shouldRouteReadOnlyTransactionToReplica() {
+    ReplicaRoutingDataSource.setReadOnly(true);
+
+    assertEquals(Route.REPLICA, dataSource.determineCurrentLookupKey());
+  }
+
+  @Test
+  void shouldRouteWriteTransactionToPrimary() {
+    ReplicaRoutingDataSource.setReadOnly(false);
+
+    assertEquals(Route.PRIMARY, dataSource.determineCurrentLookupKey());
+  }
+
+  @Test
+  void shouldRouteToPrimaryOutsideOfTransaction() {
+    assertEquals(Route.PRIMARY, dataSource.determineCurrentLookupKey());
+  }
+
+  @Test
+  void shouldRouteReadOnlyTransactionToPrimaryWhenReplicaLags() {
+    when(lagMonitor.isReplicaAvailable()).thenReturn(false);
+    ReplicaRoutingDataSource.setReadOnly(true);
+
+    assertEquals(Route.PRIMARY, dataSource.determineCurrentLookupKey());
+  }
+
+  @Test
+  void shouldRouteReadsToPrimaryAfterWriteOfSameUser() {
+    recentWrites.add(TENANT, USER_ID);
+    ReplicaRoutingDataSource.setReadOnly(true);
+
+    assertEquals(Route.PRIMARY, dataSource.determineCurrentLookupKey());
+  }
+
+  @Test
+  void shouldRouteReadsToReplicaAfterWriteOfAnotherUser() {
+    recentWrites.add(TENANT, UUID.randomUUID());
+    recentWrites.add("other", USER_ID);
+    ReplicaRoutingDataSource.setReadOnly(true);
+
+    assertEquals(Route.REPLICA, dataSource.determineCurrentLookupKey());
+  }
+
+  @Test
+  void shouldRouteReadOnlyTransactionToPrimaryOnPrimary() {
+    ReplicaRoutingDataSource.setReadOnly(true);
+
+    assertEquals(Route.PRIMARY, ReplicaRoutingDataSource.onPrimary(dataSource::determineCurrentLookupKey));
+    assertEquals(Route.REPLICA, dataSource.determineCurrentLookupKey());
+  }
+}
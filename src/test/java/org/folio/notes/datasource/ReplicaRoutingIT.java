@@ -0,0 +1,219 @@
+package org.folio.notes.datasource;
+
+import static java.util.UUID.randomUUID;
+import static org.folio.notes.support.DatabaseHelper.LINK;
+import static org.folio.notes.support.DatabaseHelper.NOTE;
+import static org.folio.notes.support.DatabaseHelper.TYPE;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import liquibase.exception.LiquibaseException;
+import org.folio.notes.domain.dto.Link;
+import org.folio.notes.domain.dto.Note;
+import org.folio.notes.domain.dto.User;
+import org.folio.notes.domain.entity.NoteEntity;
+import org.folio.notes.domain.entity.NoteTypeEntity;
+import org.folio.notes.support.DatabaseHelper;
+import org.folio.notes.support.TestApiBase;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.folio.spring.liquibase.FolioSpringLiquibase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.ResultActions;
+
+/**
+ * Runs the module with a replica that is a second database of the Postgres container. It is not replicated, so
+ * the same notes hold different titles in both databases and tell which database a request has read.
+ */
+@TestPropertySource(properties = {
+  "folio.notes.replica.enabled=true",
+  "folio.notes.replica.username=${spring.datasource.username}",
+  "folio.notes.replica.password=${spring.datasource.password}",
+  "folio.notes.replica.read-your-writes-window=1m",
+  "folio.notes.replica.lag-check-interval=1h"
+})
+class ReplicaRoutingIT extends TestApiBase {
+
+  private static final String REPLICA_DATABASE = "notes_replica";
+  private static final String DOMAIN = "users";
+  private static final String OBJECT_TYPE = "user";
+  private static final String OBJECT_ID = "user-1";
+  private static final String PRIMARY_TITLE = "Primary";
+  private static final String REPLICA_TITLE = "Replica";
+
+  @Autowired
+  private ReplicaLagMonitor lagMonitor;
+  @Autowired
+  @Qualifier("replicaDataSource")
+  private HikariDataSource replicaDataSource;
+  @Autowired
+  private FolioModuleMetadata moduleMetadata;
+
+  private JdbcTemplate replicaJdbc;
+  private DatabaseHelper replicaHelper;
+  private NoteTypeEntity noteType;
+  private UUID noteId;
+
+  @DynamicPropertySource
+  static void replicaProperties(DynamicPropertyRegistry registry) {
+    registry.add("folio.notes.replica.url", ReplicaRoutingIT::createReplicaDatabase);
+  }
+
+  @BeforeAll
+  static void setUpReplica(@Autowired FolioSpringLiquibase liquibase, @Autowired FolioModuleMetadata metadata,
+                           @Autowired @Qualifier("replicaDataSource") DataSource replicaDataSource)
+    throws LiquibaseException {
+    var schema = metadata.getDBSchemaName(TENANT);
+    new JdbcTemplate(replicaDataSource).execute("CREATE SCHEMA IF NOT EXISTS " + schema);
+    var primaryDataSource = liquibase.getDataSource();
+    try {
+      liquibase.setDataSource(replicaDataSource);
+      liquibase.setDefaultSchema(schema);
+      liquibase.performLiquibaseUpdate();
+    } finally {
+      liquibase.setDataSource(primaryDataSource);
+    }
+  }
+
+  @BeforeEach
+  void setUp() {
+    stubUser(new User(USER_ID, "test_user", null));
+    replicaJdbc = new JdbcTemplate(replicaDataSource);
+    replicaHelper = new DatabaseHelper(moduleMetadata, replicaJdbc);
+    noteType = new NoteTypeEntity();
+    noteType.setId(randomUUID());
+    noteType.setName("General");
+    noteId = randomUUID();
+    saveNote(databaseHelper, PRIMARY_TITLE);
+    saveNote(replicaHelper, REPLICA_TITLE);
+    lagMonitor.checkLag();
+  }
+
+  @Test
+  @DisplayName("Read note and note collection from the replica")
+  void shouldReadFromReplica() throws Exception {
+    getNote(USER_ID).andExpect(jsonPath("$.title", is(REPLICA_TITLE)));
+    mockMvc.perform(get("/notes?query={query}", "links.objectId = \"" + OBJECT_ID + "\"").headers(okapiHeaders()))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.notes.[0].title", is(REPLICA_TITLE)));
+  }
+
+  @Test
+  @DisplayName("Write to the primary and read own writes from the primary within the window")
+  void shouldWriteToPrimaryAndReadOwnWrites() throws Exception {
+    var writerId = randomUUID();
+    var note = new Note().title("Updated").domain(DOMAIN).typeId(noteType.getId())
+      .links(List.of(new Link().id(OBJECT_ID).type(OBJECT_TYPE)));
+    mockMvc.perform(put("/notes/{id}", noteId).headers(headers(writerId)).content(asJsonString(note)))
+      .andExpect(status().isNoContent());
+
+    assertEquals("Updated", findTitle(jdbc));
+    assertEquals(REPLICA_TITLE, findTitle(replicaJdbc));
+    getNote(writerId).andExpect(jsonPath("$.title", is("Updated")));
+    getNote(USER_ID).andExpect(jsonPath("$.title", is(REPLICA_TITLE)));
+  }
+
+  @Test
+  @DisplayName("Load cached pop-up notes from the primary")
+  void shouldLoadPopUpNotesFromPrimary() throws Exception {
+    var sql = "UPDATE %s SET pop_up_on_check_out = true WHERE id = ?";
+    jdbc.update(sql.formatted(databaseHelper.getTable(TENANT, NOTE)), noteId);
+    replicaJdbc.update(sql.formatted(databaseHelper.getTable(TENANT, NOTE)), noteId);
+
+    mockMvc.perform(get("/note-links/type/{objectType}/id/{objectId}/pop-ups", OBJECT_TYPE, OBJECT_ID)
+        .queryParam("context", "checkout").headers(okapiHeaders()))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.notes.[0].title", is(PRIMARY_TITLE)));
+  }
+
+  @Test
+  @DisplayName("Read from the primary when the replica lag can't be checked")
+  void shouldFallBackToPrimaryWhenLagCheckFails() throws Exception {
+    getNote(USER_ID).andExpect(jsonPath("$.title", is(REPLICA_TITLE)));
+
+    replicaDataSource.setConnectionTimeout(250);
+    setReplicaConnectionsAllowed(false);
+    try {
+      lagMonitor.checkLag();
+      getNote(USER_ID).andExpect(jsonPath("$.title", is(PRIMARY_TITLE)));
+    } finally {
+      setReplicaConnectionsAllowed(true);
+      lagMonitor.checkLag();
+    }
+    getNote(USER_ID).andExpect(jsonPath("$.title", is(REPLICA_TITLE)));
+  }
+
+  private static String createReplicaDatabase() {
+    var url = System.getProperty("spring.datasource.url");
+    try (var connection = DriverManager.getConnection(url, System.getProperty("spring.datasource.username"),
+           System.getProperty("spring.datasource.password"));
+         var statement = connection.createStatement()) {
+      var exists = statement.executeQuery("SELECT 1 FROM pg_database WHERE datname = '" + REPLICA_DATABASE + "'");
+      if (!exists.next()) {
+        statement.execute("CREATE DATABASE " + REPLICA_DATABASE);
+      }
+    } catch (SQLException e) {
+      throw new IllegalStateException("Failed to create replica database", e);
+    }
+    return url.replaceFirst("/[^/?]+(\\?|$)", "/" + REPLICA_DATABASE + "$1");
+  }
+
+  private void setReplicaConnectionsAllowed(boolean allowed) {
+    jdbc.execute("ALTER DATABASE " + REPLICA_DATABASE + " ALLOW_CONNECTIONS " + allowed);
+    if (!allowed) {
+      jdbc.queryForList("SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE datname = ?",
+        REPLICA_DATABASE);
+    }
+  }
+
+  private void saveNote(DatabaseHelper helper, String title) {
+    helper.clearTable(TENANT, NOTE);
+    helper.clearTable(TENANT, TYPE);
+    helper.clearTable(TENANT, LINK);
+    helper.saveNoteType(noteType, TENANT);
+    var note = new NoteEntity();
+    note.setId(noteId);
+    note.setTitle(title);
+    note.setDomain(DOMAIN);
+    note.setType(noteType);
+    note.setCreatedBy(USER_ID);
+    helper.saveNote(note, TENANT);
+    helper.saveNoteLink(noteId, helper.saveLink(OBJECT_ID, OBJECT_TYPE, TENANT), TENANT);
+  }
+
+  private String findTitle(JdbcTemplate jdbcTemplate) {
+    return jdbcTemplate.queryForObject("SELECT title FROM " + databaseHelper.getTable(TENANT, NOTE)
+                                       + " WHERE id = ?", String.class, noteId);
+  }
+
+  private ResultActions getNote(UUID userId) throws Exception {
+    return mockMvc.perform(get("/notes/{id}", noteId).headers(headers(userId)))
+      .andExpect(status().isOk());
+  }
+
+  private HttpHeaders headers(UUID userId) {
+    var headers = okapiHeaders();
+    headers.set(XOkapiHeaders.USER_ID, userId.toString());
+    return headers;
+  }
+}
@@ -0,0 +1,308 @@
+package org.folio.notes.domain.repository;
+
+import static org.folio.notes.domain.repository.NoteRepository.contentLike;
+import static org.folio.notes.domain.repository.NoteRepository.domainEq;
+import static org.folio.notes.domain.repository.NoteRepository.fullTextMatch;
+import static org.folio.notes.domain.repository.NoteRepository.linkIs;
+import static org.folio.notes.domain.repository.NoteRepository.linkIsNot;
+import static org.folio.notes.support.DatabaseHelper.LINK;
+import static org.folio.notes.support.DatabaseHelper.NOTE;
+import static org.folio.notes.support.DatabaseHelper.NOTE_LINK;
+import static org.folio.notes.support.DatabaseHelper.TYPE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.folio.notes.domain.entity.AuditableEntity_;
+import org.folio.notes.domain.entity.BaseEntity_;
+import org.folio.notes.support.SqlStatementCaptor;
+import org.folio.notes.support.TestApiBase;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Runs EXPLAIN for the SQL of repository queries over seeded data with sequential scans disabled in the planner,
+ * a sequential scan left in the plan means that no index can serve the query. Statements are explained as generic
+ * plans with parameters, which requires PostgreSQL 16.
+ */
+@TestPropertySource(properties = {
+  "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.folio.notes.support.SqlStatementCaptor"
+})
+class QueryPlansIT extends TestApiBase {
+
+  private static final int NOTES_COUNT = 2000;
+  private static final int LINKS_COUNT = 500;
+  private static final String DOMAIN = "domain1";
+  private static final String OBJECT_TYPE = "package";
+  private static final String OBJECT_ID = "object-1";
+  private static final String SEQ_SCAN = "Seq Scan";
+  private static final Set<String> INDEX_SCANS = Set.of("Index Scan", "Index Only Scan", "Bitmap Index Scan");
+  private static final String INDEX_COND = "Index Cond";
+  private static final String LINK_ID_INDEX = "idx_note_link_link_id_note_id";
+  private static final String DOMAIN_INDEX = "idx_note_domain_updated_date_id";
+  private static final Pattern PARAMETER_OR_LITERAL = Pattern.compile("'(?:[^']|'')*'|\\?");
+  private static final PageRequest PAGE = PageRequest.of(0, 10,
+    Sort.by(Sort.Order.desc(AuditableEntity_.UPDATED_DATE), Sort.Order.asc(BaseEntity_.ID)));
+
+  @Autowired
+  private NoteRepository noteRepository;
+  @Autowired
+  private LinkRepository linkRepository;
+  @Autowired
+  private FolioModuleMetadata moduleMetadata;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @BeforeEach
+  void setUp() {
+    databaseHelper.clearTable(TENANT, NOTE);
+    databaseHelper.clearTable(TENANT, TYPE);
+    databaseHelper.clearTable(TENANT, LINK);
+    seedNotes();
+  }
+
+  @Test
+  @DisplayName("Notes by domain and assigned link are read by indexes")
+  void notesByAssignedLink() {
+    assertNoSeqScans(() -> noteRepository.findIds(domainEq(DOMAIN).and(linkIs(OBJECT_ID, OBJECT_TYPE)), PAGE));
+    assertNoSeqScans(() -> noteRepository.countIds(domainEq(DOMAIN).and(linkIs(OBJECT_ID, OBJECT_TYPE)), 1000));
+    assertIndexConds(() -> noteRepository.findIds(domainEq(DOMAIN).and(linkIs(OBJECT_ID, OBJECT_TYPE)), PAGE),
+      LINK_ID_INDEX, "note_pkey");
+  }
+
+  @Test
+  @DisplayName("Notes by domain and unassigned link are read by indexes")
+  void notesByUnassignedLink() {
+    assertNoSeqScans(() -> noteRepository.findIds(domainEq(DOMAIN).and(linkIsNot(OBJECT_ID, OBJECT_TYPE)), PAGE));
+    assertIndexConds(() -> noteRepository.findIds(domainEq(DOMAIN).and(linkIsNot(OBJECT_ID, OBJECT_TYPE)), PAGE),
+      DOMAIN_INDEX);
+  }
+
+  @Test
+  @DisplayName("Notes by domain and search term are read by indexes")
+  void notesBySearch() {
+    assertNoSeqScans(() -> noteRepository.findIds(domainEq(DOMAIN).and(contentLike("content 1")), PAGE));
+    assertNoSeqScans(() -> noteRepository.findIds(domainEq(DOMAIN).and(fullTextMatch("content")), PAGE));
+  }
+
+  @Test
+  @DisplayName("Full-text search terms are bound as parameters")
+  void fullTextSearchParameters() {
+    var statements = captureStatements(() -> noteRepository.findIds(fullTextMatch("zebra:*"), PAGE));
+
+    assertFalse(statements.isEmpty(), "No SQL statements were captured");
+    assertTrue(statements.stream().noneMatch(sql -> sql.contains("zebra")), () -> String.join("\n", statements));
+  }
+
+  @Test
+  @DisplayName("Notes with links and type are fetched by primary keys")
+  void notesByIds() {
+    var ids = jdbc.queryForList("SELECT id FROM " + databaseHelper.getTable(TENANT, NOTE) + " LIMIT 10", UUID.class);
+
+    assertNoSeqScans(() -> noteRepository.findAllByIdIn(ids));
+    assertNoSeqScans(() -> noteRepository.findWithTypeAndLinksById(ids.getFirst()));
+    assertIndexConds(() -> noteRepository.findAllByIdIn(ids), "note_pkey");
+    assertIndexConds(() -> noteRepository.findWithTypeAndLinksById(ids.getFirst()), "note_pkey", "note_link_pkey");
+  }
+
+  @Test
+  @DisplayName("Notes of domain are exported by index")
+  void notesExport() {
+    var query = noteRepository.createCqlQuery("cql.allRecords=1", domainEq(DOMAIN));
+
+    assertNoSeqScans(() -> {
+      try (var notes = noteRepository.stream(query, 100)) {
+        assertEquals(NOTES_COUNT / 10, notes.count());
+      }
+    });
+    assertIndexConds(() -> {
+      try (var notes = noteRepository.stream(query, 100)) {
+        notes.count();
+      }
+    }, DOMAIN_INDEX);
+  }
+
+  @Test
+  @DisplayName("Link of object is found and deleted by indexes")
+  void linkOfObject() {
+    var linkId = jdbc.queryForObject("SELECT id FROM " + databaseHelper.getTable(TENANT, LINK)
+                                     + " WHERE object_id = ?", UUID.class, OBJECT_ID);
+
+    assertNoSeqScans(() -> linkRepository.findByObjectIdAndObjectType(OBJECT_ID, OBJECT_TYPE));
+    assertNoSeqScans(() -> noteRepository.deleteLinkedOnlyTo(linkId));
+    assertNoSeqScans(() -> noteRepository.unassignLink(linkId));
+    assertIndexConds(() -> noteRepository.deleteLinkedOnlyTo(linkId), LINK_ID_INDEX);
+    assertIndexConds(() -> noteRepository.unassignLink(linkId), LINK_ID_INDEX, "note_pkey");
+  }
+
+  @Test
+  @DisplayName("Pop-up notes of object are read by indexes")
+  void popUpNotes() {
+    assertNoSeqScans(() -> noteRepository.findCheckOutPopUps(OBJECT_ID, OBJECT_TYPE));
+    assertNoSeqScans(() -> noteRepository.findUserPopUps(OBJECT_ID, OBJECT_TYPE));
+    assertIndexConds(() -> noteRepository.findCheckOutPopUps(OBJECT_ID, OBJECT_TYPE),
+      LINK_ID_INDEX, "idx_note_pop_up_on_check_out");
+    assertIndexConds(() -> noteRepository.findUserPopUps(OBJECT_ID, OBJECT_TYPE),
+      LINK_ID_INDEX, "idx_note_pop_up_on_user");
+  }
+
+  @Test
+  @DisplayName("Unassigned links are found by the note_link index")
+  void unassignedLinks() {
+    assertNoSeqScans(() -> linkRepository.lockUnassignedIds(10), Set.of(LINK));
+  }
+
+  private void assertNoSeqScans(Runnable repositoryCall) {
+    assertNoSeqScans(repositoryCall, Set.of());
+  }
+
+  /**
+   * Runs the repository call in a rolled back transaction and explains every SQL statement it prepared.
+   *
+   * @param allowedTables tables that the call reads entirely by design
+   */
+  private void assertNoSeqScans(Runnable repositoryCall, Set<String> allowedTables) {
+    var statements = captureStatements(repositoryCall);
+    assertFalse(statements.isEmpty(), "No SQL statements were captured");
+    for (var sql : statements) {
+      var plan = explain(sql);
+      var scannedTables = new ArrayList<String>();
+      collectSeqScannedTables(plan, scannedTables);
+      scannedTables.removeAll(allowedTables);
+      assertEquals(List.of(), scannedTables, () -> "Sequential scan in the plan of:\n" + sql + "\n" + plan);
+    }
+  }
+
+  /**
+   * Explains the SQL statements of the repository call and asserts that indexes of the note and note_link tables
+   * are read only by an Index Cond, a scan of a whole index has none, and that each of the expected indexes is used.
+   */
+  private void assertIndexConds(Runnable repositoryCall, String... expectedIndexes) {
+    var tableIndexes = findIndexes(NOTE, NOTE_LINK);
+    var usedIndexes = new HashSet<String>();
+    for (var sql : captureStatements(repositoryCall)) {
+      var plan = explain(sql);
+      var indexScans = new ArrayList<JsonNode>();
+      collectIndexScans(plan, indexScans);
+      for (var indexScan : indexScans) {
+        var indexName = indexScan.get("Index Name").asString();
+        if (tableIndexes.contains(indexName)) {
+          assertTrue(indexScan.has(INDEX_COND), () -> "No Index Cond on " + indexName + " in the plan of:\n" + sql
+                                                      + "\n" + plan);
+          usedIndexes.add(indexName);
+        }
+      }
+    }
+    for (var index : expectedIndexes) {
+      assertTrue(usedIndexes.contains(index), () -> "Index " + index + " is not used, used indexes: " + usedIndexes);
+    }
+  }
+
+  private Set<String> findIndexes(String... tables) {
+    return new HashSet<>(jdbc.queryForList("SELECT indexname FROM pg_indexes WHERE schemaname = ? "
+                                           + "AND tablename = ANY (?)", String.class,
+      moduleMetadata.getDBSchemaName(TENANT), tables));
+  }
+
+  private List<String> captureStatements(Runnable repositoryCall) {
+    try (var ignored = new FolioExecutionContextSetter(moduleMetadata, tenantHeaders())) {
+      SqlStatementCaptor.start();
+      new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+        repositoryCall.run();
+        status.setRollbackOnly();
+      });
+      return SqlStatementCaptor.stop();
+    }
+  }
+
+  private JsonNode explain(String sql) {
+    var explainSql = "EXPLAIN (GENERIC_PLAN, FORMAT JSON) " + toNumberedParameters(sql);
+    return jdbc.execute((ConnectionCallback<JsonNode>) connection -> {
+      connection.setAutoCommit(false);
+      try (var statement = connection.createStatement()) {
+        statement.execute("SET LOCAL search_path TO " + moduleMetadata.getDBSchemaName(TENANT));
+        statement.execute("SET LOCAL enable_seqscan TO off");
+        try (var resultSet = statement.executeQuery(explainSql)) {
+          resultSet.next();
+          return OBJECT_MAPPER.readTree(resultSet.getString(1));
+        }
+      } finally {
+        connection.rollback();
+        connection.setAutoCommit(true);
+      }
+    });
+  }
+
+  private void collectSeqScannedTables(JsonNode node, Collection<String> tables) {
+    var nodeType = node.get("Node Type");
+    if (nodeType != null && SEQ_SCAN.equals(nodeType.asString())) {
+      tables.add(node.get("Relation Name").asString());
+    }
+    node.forEach(child -> collectSeqScannedTables(child, tables));
+  }
+
+  private void collectIndexScans(JsonNode node, Collection<JsonNode> indexScans) {
+    var nodeType = node.get("Node Type");
+    if (nodeType != null && INDEX_SCANS.contains(nodeType.asString())) {
+      indexScans.add(node);
+    }
+    node.forEach(child -> collectIndexScans(child, indexScans));
+  }
+
+  /**
+   * Replaces JDBC parameter markers with numbered parameters of a generic plan, markers in literals are kept.
+   */
+  private static String toNumberedParameters(String sql) {
+    var matcher = PARAMETER_OR_LITERAL.matcher(sql);
+    var result = new StringBuilder();
+    var parameter = 0;
+    while (matcher.find()) {
+      var replacement = "?".equals(matcher.group()) ? "\\$" + ++parameter : Matcher.quoteReplacement(matcher.group());
+      matcher.appendReplacement(result, replacement);
+    }
+    return matcher.appendTail(result).toString();
+  }
+
+  private void seedNotes() {
+    var typeId = UUID.randomUUID();
+    jdbc.update("INSERT INTO " + databaseHelper.getTable(TENANT, TYPE) + " (id, name) VALUES (?, 'General')", typeId);
+    jdbc.update("INSERT INTO " + databaseHelper.getTable(TENANT, NOTE)
+                + " (id, title, domain, content, indexed_content, type_id) "
+                + "SELECT gen_random_uuid(), 'Note ' || i, 'domain' || (i % 10), 'content ' || i, "
+                + "'Note ' || i || ' content ' || i, ? FROM generate_series(1, ?) i", typeId, NOTES_COUNT);
+    jdbc.update("INSERT INTO " + databaseHelper.getTable(TENANT, LINK) + " (object_id, object_type) "
+                + "SELECT 'object-' || i, ? FROM generate_series(1, ?) i", OBJECT_TYPE, LINKS_COUNT);
+    jdbc.update("INSERT INTO " + databaseHelper.getTable(TENANT, NOTE_LINK) + " (note_id, link_id) "
+                + "SELECT n.id, l.id FROM (SELECT id, row_number() OVER () AS rn FROM "
+                + databaseHelper.getTable(TENANT, NOTE) + ") n JOIN (SELECT id, row_number() OVER () AS rn FROM "
+                + databaseHelper.getTable(TENANT, LINK) + ") l ON l.rn = 1 + n.rn % ?", LINKS_COUNT);
+    for (var table : List.of(TYPE, NOTE, LINK, NOTE_LINK)) {
+      jdbc.execute("ANALYZE " + databaseHelper.getTable(TENANT, table));
+    }
+  }
+
+  private static Map<String, Collection<String>> tenantHeaders() {
+    return Map.of(XOkapiHeaders.TENANT, List.of(TENANT));
+  }
+}
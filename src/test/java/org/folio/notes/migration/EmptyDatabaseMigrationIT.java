@@ -12,6 +12,8 @@ class EmptyDatabaseMigrationIT extends MigrationTestBase {
     assertTableExist("link");
     assertTableExist("note_link");
     assertTableExist("type");
+    assertTableExist("type_usage");
+    assertTriggerExist("count_type_usage_trigger");
     assertRowsCount("type", 1);
   }
 }
@@ -0,0 +1,109 @@
+package org.folio.notes.service;
+
+import static java.util.UUID.randomUUID;
+import static org.folio.notes.support.DatabaseHelper.LINK;
+import static org.folio.notes.support.DatabaseHelper.NOTE;
+import static org.folio.notes.support.DatabaseHelper.TYPE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.folio.notes.domain.dto.Link;
+import org.folio.notes.domain.dto.Note;
+import org.folio.notes.domain.dto.User;
+import org.folio.notes.domain.entity.NoteTypeEntity;
+import org.folio.notes.support.TestApiBase;
+import org.folio.notes.util.HtmlSanitizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Compares indexed_content built by the module with the one built by the compute_indexed_content trigger,
+ * which is kept on the note table by default.
+ */
+class IndexedContentIT extends TestApiBase {
+
+  private static final String TRIGGER_EXPRESSION = "coalesce(title, '') || ' ' || regexp_replace("
+    + "regexp_replace(coalesce(content, ''), E'<[^>]+>', '', 'gi'), '\\n+', ' ', 'gi')";
+
+  @Autowired
+  private HtmlSanitizer sanitizer;
+
+  private NoteTypeEntity noteType;
+
+  @BeforeEach
+  void setUp() {
+    stubUser(new User(USER_ID, "test_user", null));
+    databaseHelper.clearTable(TENANT, NOTE);
+    databaseHelper.clearTable(TENANT, TYPE);
+    databaseHelper.clearTable(TENANT, LINK);
+    noteType = new NoteTypeEntity();
+    noteType.setId(randomUUID());
+    noteType.setName("General");
+    databaseHelper.saveNoteType(noteType, TENANT);
+  }
+
+  @Test
+  @DisplayName("Trigger state follows the indexedContentTrigger parameter")
+  void shouldKeepTriggerState() {
+    var query = "SELECT count(*) > 0 FROM information_schema.triggers WHERE trigger_name = ?";
+    assertEquals(isTriggerEnabled(), jdbc.queryForObject(query, Boolean.class, "compute_indexed_content_trigger"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "plain text",
+    "<p>First <strong>bold</strong> paragraph</p>\n<p>Second paragraph</p>",
+    "<p>Multiple</p>\n\n\n<p>new lines</p>",
+    "<p>Tom &amp; Jerry &lt;friends&gt;</p>",
+    "<a href=\"https://folio.org\" onclick=\"alert(1)\">link</a><script>alert(1)</script>",
+    "<ul><li>one</li><li>two</li></ul>"
+  })
+  @DisplayName("Stored indexed_content matches the one built by the trigger on create and update")
+  void shouldBuildIndexedContentAsTrigger(String content) throws Exception {
+    var note = createNote(new Note().title("Title").content(content));
+    assertIndexedContent(note.getId(), "Title", content);
+
+    updateNote(note.title("Changed title"));
+    assertIndexedContent(note.getId(), "Changed title", content);
+
+    updateNote(note.content(content + "<p>appended</p>"));
+    assertIndexedContent(note.getId(), "Changed title", content + "<p>appended</p>");
+  }
+
+  protected boolean isTriggerEnabled() {
+    return true;
+  }
+
+  private void assertIndexedContent(UUID noteId, String title, String content) {
+    var row = findNote(noteId);
+    assertEquals(title + " " + sanitizer.sanitizeWithText(content).text(), row.get("indexed_content"));
+    assertEquals(row.get("trigger_content"), row.get("indexed_content"));
+  }
+
+  private Note createNote(Note note) throws Exception {
+    note.domain("domain").typeId(noteType.getId()).links(List.of(new Link().id("object-1").type("package")));
+    var response = mockMvc.perform(post("/notes").headers(okapiHeaders()).content(asJsonString(note)))
+      .andExpect(status().isCreated())
+      .andReturn().getResponse().getContentAsString();
+    return OBJECT_MAPPER.readValue(response, Note.class);
+  }
+
+  private void updateNote(Note note) throws Exception {
+    mockMvc.perform(put("/notes/{id}", note.getId()).headers(okapiHeaders()).content(asJsonString(note)))
+      .andExpect(status().isNoContent());
+  }
+
+  private Map<String, Object> findNote(UUID id) {
+    return jdbc.queryForMap("SELECT indexed_content, " + TRIGGER_EXPRESSION + " AS trigger_content FROM "
+                            + databaseHelper.getTable(TENANT, NOTE) + " WHERE id = ?", id);
+  }
+}
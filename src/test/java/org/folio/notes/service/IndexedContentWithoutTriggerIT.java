@@ -0,0 +1,15 @@
+package org.folio.notes.service;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Runs the indexed_content comparison with the compute_indexed_content trigger dropped on tenant upgrade.
+ */
+@TestPropertySource(properties = {"spring.liquibase.parameters.indexedContentTrigger=disabled"})
+class IndexedContentWithoutTriggerIT extends IndexedContentIT {
+
+  @Override
+  protected boolean isTriggerEnabled() {
+    return false;
+  }
+}
@@ -0,0 +1,96 @@
+package org.folio.notes.service;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.UUID.randomUUID;
+import static org.folio.notes.support.DatabaseHelper.LINK;
+import static org.folio.notes.support.DatabaseHelper.NOTE;
+import static org.folio.notes.support.DatabaseHelper.TYPE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.SQLException;
+import java.util.stream.IntStream;
+import org.folio.notes.domain.entity.NoteEntity;
+import org.folio.notes.domain.entity.NoteTypeEntity;
+import org.folio.notes.service.impl.LinkReaper;
+import org.folio.notes.support.TestApiBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {"folio.notes.link-reaper.batch-size=2"})
+class LinkReaperIT extends TestApiBase {
+
+  private static final String OBJECT_TYPE = "package";
+
+  @Autowired
+  private LinkReaper linkReaper;
+
+  @BeforeEach
+  void setUp() {
+    databaseHelper.clearTable(TENANT, NOTE);
+    databaseHelper.clearTable(TENANT, TYPE);
+    databaseHelper.clearTable(TENANT, LINK);
+  }
+
+  @Test
+  @DisplayName("Delete links without notes in batches and keep assigned links")
+  void shouldDeleteUnassignedLinks() {
+    var assignedLinkId = databaseHelper.saveLink("assigned", OBJECT_TYPE, TENANT);
+    databaseHelper.saveNoteLink(createNote().getId(), assignedLinkId, TENANT);
+    IntStream.range(0, 5).forEach(i -> databaseHelper.saveLink("unassigned-" + i, OBJECT_TYPE, TENANT));
+
+    assertEquals(5, linkReaper.deleteUnassignedLinks(TENANT));
+    assertEquals(1, databaseHelper.countRowsInTable(TENANT, LINK));
+  }
+
+  @Test
+  @DisplayName("Delete nothing when all links are assigned")
+  void shouldNotDeleteAssignedLinks() {
+    var linkId = databaseHelper.saveLink("assigned", OBJECT_TYPE, TENANT);
+    databaseHelper.saveNoteLink(createNote().getId(), linkId, TENANT);
+
+    assertEquals(0, linkReaper.deleteUnassignedLinks(TENANT));
+    assertEquals(1, databaseHelper.countRowsInTable(TENANT, LINK));
+  }
+
+  @Test
+  @DisplayName("Skip links locked by an open upsert transaction and delete them once it ends")
+  void shouldSkipLockedLinks() throws SQLException {
+    databaseHelper.saveLink("locked", OBJECT_TYPE, TENANT);
+    databaseHelper.saveLink("unassigned", OBJECT_TYPE, TENANT);
+
+    try (var connection = requireNonNull(jdbc.getDataSource()).getConnection()) {
+      connection.setAutoCommit(false);
+      try (var statement = connection.prepareStatement("INSERT INTO " + databaseHelper.getTable(TENANT, LINK)
+        + " (object_id, object_type) VALUES (?, ?) "
+        + "ON CONFLICT (object_id, object_type) DO UPDATE SET object_id = EXCLUDED.object_id")) {
+        statement.setString(1, "locked");
+        statement.setString(2, OBJECT_TYPE);
+        statement.executeUpdate();
+      }
+
+      assertEquals(1, linkReaper.deleteUnassignedLinks(TENANT));
+      assertEquals(1, databaseHelper.countRowsInTable(TENANT, LINK));
+      connection.rollback();
+    }
+
+    assertEquals(1, linkReaper.deleteUnassignedLinks(TENANT));
+    assertEquals(0, databaseHelper.countRowsInTable(TENANT, LINK));
+  }
+
+  private NoteEntity createNote() {
+    var noteType = new NoteTypeEntity();
+    noteType.setId(randomUUID());
+    noteType.setName("General");
+    databaseHelper.saveNoteType(noteType, TENANT);
+    var note = new NoteEntity();
+    note.setId(randomUUID());
+    note.setTitle("Title");
+    note.setDomain("domain");
+    note.setType(noteType);
+    databaseHelper.saveNote(note, TENANT);
+    return note;
+  }
+}
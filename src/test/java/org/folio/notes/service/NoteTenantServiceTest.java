@@ -3,7 +3,9 @@ package org.folio.notes.service;
 import static org.mockito.Mockito.verify;
 
 import org.folio.notes.service.impl.NoteTenantService;
+import org.folio.notes.service.impl.UserSnapshotService;
 import org.folio.spring.testing.type.UnitTest;
+import org.folio.tenant.domain.dto.TenantAttributes;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -17,6 +19,9 @@ class NoteTenantServiceTest {
   @Mock
   private NoteTypesService noteTypesService;
 
+  @Mock
+  private UserSnapshotService userSnapshotService;
+
   @InjectMocks
   private NoteTenantService tenantService;
 
@@ -25,4 +30,10 @@ class NoteTenantServiceTest {
     tenantService.loadReferenceData();
     verify(noteTypesService).populateDefaultType();
   }
+
+  @Test
+  void shouldBackfillUserSnapshotsAfterTenantUpdate() {
+    tenantService.afterTenantUpdate(new TenantAttributes().moduleTo("mod-notes"));
+    verify(userSnapshotService).backfillSnapshotsAsync();
+  }
 }
@@ -0,0 +1,142 @@
+package org.folio.notes.service;
+
+import static java.util.UUID.randomUUID;
+import static org.folio.notes.support.DatabaseHelper.LINK;
+import static org.folio.notes.support.DatabaseHelper.NOTE;
+import static org.folio.notes.support.DatabaseHelper.TYPE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.folio.notes.domain.dto.Link;
+import org.folio.notes.domain.dto.Note;
+import org.folio.notes.domain.dto.User;
+import org.folio.notes.domain.entity.NoteEntity;
+import org.folio.notes.domain.entity.NoteTypeEntity;
+import org.folio.notes.domain.entity.UserSnapshot;
+import org.folio.notes.service.impl.UserSnapshotService;
+import org.folio.notes.support.TestApiBase;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {"folio.notes.user-snapshot.enabled=true"})
+class UserSnapshotServiceIT extends TestApiBase {
+
+  private static final User CREATOR = new User(randomUUID(), "creator",
+    new User.UserPersonal("Jane", "Roe", "Q"));
+  private static final User UPDATER = new User(randomUUID(), "updater", null);
+
+  @Autowired
+  private UserSnapshotService userSnapshotService;
+  @Autowired
+  private FolioModuleMetadata moduleMetadata;
+
+  private NoteTypeEntity noteType;
+
+  @BeforeEach
+  void setUp() {
+    databaseHelper.clearTable(TENANT, NOTE);
+    databaseHelper.clearTable(TENANT, TYPE);
+    databaseHelper.clearTable(TENANT, LINK);
+    noteType = new NoteTypeEntity();
+    noteType.setId(randomUUID());
+    noteType.setName("General");
+    databaseHelper.saveNoteType(noteType, TENANT);
+  }
+
+  @Test
+  @DisplayName("Capture snapshot of the acting user when a note is created")
+  void shouldCaptureSnapshotOnCreate() throws Exception {
+    stubUser(new User(USER_ID, "acting_user", new User.UserPersonal("John", "Doe", null)));
+    var note = new Note().title("Title").domain("domain").typeId(noteType.getId())
+      .links(List.of(new Link().id("object-1").type("package")));
+
+    mockMvc.perform(post("/notes").headers(okapiHeaders()).content(asJsonString(note)))
+      .andExpect(status().isCreated());
+
+    var row = jdbc.queryForMap("SELECT * FROM " + databaseHelper.getTable(TENANT, NOTE));
+    assertEquals("acting_user", row.get("created_by_username"));
+    assertEquals("John", row.get("created_by_first_name"));
+    assertEquals("Doe", row.get("created_by_last_name"));
+    assertEquals("acting_user", row.get("updated_by_username"));
+  }
+
+  @Test
+  @DisplayName("Capture snapshot of the acting user as updater when a note is updated")
+  void shouldCaptureSnapshotOnUpdate() throws Exception {
+    var noteId = saveNote(CREATOR.id(), null);
+    stubUser(new User(USER_ID, "acting_user", new User.UserPersonal("John", "Doe", null)));
+    var note = new Note().title("Updated").domain("domain").typeId(noteType.getId())
+      .links(List.of(new Link().id("object-1").type("package")));
+
+    mockMvc.perform(put("/notes/{id}", noteId).headers(okapiHeaders()).content(asJsonString(note)))
+      .andExpect(status().isNoContent());
+
+    var row = findNote(noteId);
+    assertNull(row.get("created_by_username"));
+    assertEquals("acting_user", row.get("updated_by_username"));
+    assertEquals("John", row.get("updated_by_first_name"));
+  }
+
+  @Test
+  @DisplayName("Backfill missing snapshots of existing notes and keep stored ones")
+  void shouldBackfillSnapshots() {
+    var createdAndUpdated = saveNote(CREATOR.id(), UPDATER.id());
+    var createdOnly = saveNote(UPDATER.id(), null);
+    var stored = saveNote(CREATOR.id(), null);
+    databaseHelper.saveNoteCreatedBySnapshot(stored, new UserSnapshot("stored", null, null, null), TENANT);
+    stubUsers(CREATOR, UPDATER);
+
+    assertEquals(2, backfillSnapshots());
+
+    var createdAndUpdatedRow = findNote(createdAndUpdated);
+    assertEquals("creator", createdAndUpdatedRow.get("created_by_username"));
+    assertEquals("Jane", createdAndUpdatedRow.get("created_by_first_name"));
+    assertEquals("Roe", createdAndUpdatedRow.get("created_by_last_name"));
+    assertEquals("Q", createdAndUpdatedRow.get("created_by_middle_name"));
+    assertEquals("updater", createdAndUpdatedRow.get("updated_by_username"));
+    assertEquals(1, createdAndUpdatedRow.get("version"));
+    assertEquals("updater", findNote(createdOnly).get("created_by_username"));
+    assertEquals("stored", findNote(stored).get("created_by_username"));
+    assertEquals(0, backfillSnapshots());
+  }
+
+  private int backfillSnapshots() {
+    try (var ignored = new FolioExecutionContextSetter(moduleMetadata, contextHeaders())) {
+      return userSnapshotService.backfillSnapshots();
+    }
+  }
+
+  private Map<String, Object> findNote(UUID id) {
+    return jdbc.queryForMap("SELECT * FROM " + databaseHelper.getTable(TENANT, NOTE) + " WHERE id = ?", id);
+  }
+
+  private UUID saveNote(UUID createdBy, UUID updatedBy) {
+    var note = new NoteEntity();
+    note.setId(randomUUID());
+    note.setTitle("Title");
+    note.setDomain("domain");
+    note.setType(noteType);
+    note.setCreatedBy(createdBy);
+    note.setUpdatedBy(updatedBy);
+    databaseHelper.saveNote(note, TENANT);
+    return note.getId();
+  }
+
+  private Map<String, Collection<String>> contextHeaders() {
+    return Map.of(XOkapiHeaders.TENANT, List.of(TENANT), XOkapiHeaders.URL, List.of(okapiUrl),
+      XOkapiHeaders.USER_ID, List.of(USER_ID.toString()));
+  }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.UUID;
 import org.folio.notes.domain.entity.NoteEntity;
 import org.folio.notes.domain.entity.NoteTypeEntity;
+import org.folio.notes.domain.entity.UserSnapshot;
 import org.folio.spring.FolioModuleMetadata;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.jdbc.JdbcTestUtils;
@@ -13,6 +14,7 @@ public class DatabaseHelper {
   public static final String NOTE = "note";
   public static final String TYPE = "type";
   public static final String LINK = "link";
+  public static final String NOTE_LINK = "note_link";
   private final FolioModuleMetadata metadata;
   private final JdbcTemplate jdbcTemplate;
 
@@ -52,9 +54,27 @@ public class DatabaseHelper {
   }
 
   public void saveNote(NoteEntity note, String tenant) {
-    var sql = "INSERT INTO " + getTable(tenant, NOTE) + " (id, title, domain, type_id, created_by) VALUES (?,?,?,?,?)";
-    jdbcTemplate.update(sql,
-      note.getId(), note.getTitle(), note.getDomain(), note.getType().getId(), note.getCreatedBy());
+    var sql = "INSERT INTO " + getTable(tenant, NOTE) + " (id, title, domain, type_id, created_by, updated_by) "
+              + "VALUES (?,?,?,?,?,?)";
+    jdbcTemplate.update(sql, note.getId(), note.getTitle(), note.getDomain(), note.getType().getId(),
+      note.getCreatedBy(), note.getUpdatedBy());
+  }
+
+  public UUID saveLink(String objectId, String objectType, String tenant) {
+    var sql = "INSERT INTO " + getTable(tenant, LINK) + " (object_id, object_type) VALUES (?, ?) RETURNING id";
+    return jdbcTemplate.queryForObject(sql, UUID.class, objectId, objectType);
+  }
+
+  public void saveNoteLink(UUID noteId, UUID linkId, String tenant) {
+    var sql = "INSERT INTO " + getTable(tenant, NOTE_LINK) + " (note_id, link_id) VALUES (?, ?)";
+    jdbcTemplate.update(sql, noteId, linkId);
+  }
+
+  public void saveNoteCreatedBySnapshot(UUID noteId, UserSnapshot snapshot, String tenant) {
+    var sql = "UPDATE " + getTable(tenant, NOTE) + " SET created_by_username = ?, created_by_first_name = ?, "
+              + "created_by_last_name = ?, created_by_middle_name = ? WHERE id = ?";
+    jdbcTemplate.update(sql, snapshot.getUsername(), snapshot.getFirstName(), snapshot.getLastName(),
+      snapshot.getMiddleName(), noteId);
   }
 
   public void saveNoteTypes(List<NoteTypeEntity> noteTypes, String tenant) {
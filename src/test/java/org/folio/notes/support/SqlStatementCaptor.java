@@ -0,0 +1,33 @@
+package org.folio.notes.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Records SQL statements prepared by Hibernate on the current thread, enable it with the
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector} property.
+ */
+public class SqlStatementCaptor implements StatementInspector {
+
+  private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+  public static void start() {
+    STATEMENTS.set(new ArrayList<>());
+  }
+
+  public static List<String> stop() {
+    var statements = STATEMENTS.get();
+    STATEMENTS.remove();
+    return statements == null ? List.of() : statements;
+  }
+
+  @Override
+  public String inspect(String sql) {
+    var statements = STATEMENTS.get();
+    if (statements != null) {
+      statements.add(sql);
+    }
+    return sql;
+  }
+}
@@ -2,18 +2,23 @@ package org.folio.notes.support;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
 import static java.util.Objects.requireNonNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.github.tomakehurst.wiremock.WireMockServer;
+import java.util.List;
 import java.util.UUID;
 import lombok.SneakyThrows;
 import org.apache.http.HttpStatus;
 import org.folio.notes.domain.dto.User;
+import org.folio.notes.domain.dto.UserCollection;
+import org.folio.notes.metrics.SqlStatementProfile;
 import org.folio.spring.FolioModuleMetadata;
 import org.folio.spring.integration.XOkapiHeaders;
 import org.folio.spring.testing.extension.EnableOkapi;
@@ -36,6 +41,7 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
 import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.json.JsonMapper;
 
@@ -94,6 +100,15 @@ public abstract class TestApiBase extends TestBase {
     return httpHeaders;
   }
 
+  /**
+   * Matches the number of SQL statements that Hibernate prepared while the request was handled.
+   */
+  protected static ResultMatcher sqlStatements(int expected) {
+    return result -> assertEquals(expected,
+      requireNonNull(SqlStatementProfile.of(result.getRequest()), "Request is not profiled").getStatements(),
+      "Number of SQL statements");
+  }
+
   @SneakyThrows
   protected static void setUpTenant(MockMvc mockMvc) {
     mockMvc.perform(post("/_/tenant").content(asJsonString(new TenantAttributes().moduleTo("mod-notes")))
@@ -110,6 +125,15 @@ public abstract class TestApiBase extends TestBase {
         .withStatus(HttpStatus.SC_OK)));
   }
 
+  @SneakyThrows
+  protected void stubUsers(User... users) {
+    var userCollection = new UserCollection(List.of(users), users.length);
+    okapiServer.stubFor(get(urlPathEqualTo("/users"))
+      .willReturn(aResponse().withBody(OBJECT_MAPPER.writeValueAsString(userCollection))
+        .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+        .withStatus(HttpStatus.SC_OK)));
+  }
+
   protected void stubUserClientError(int status) {
     okapiServer.stubFor(get(urlPathMatching("/users/.*"))
       .willReturn(aResponse().withBody("random message").withStatus(status)));
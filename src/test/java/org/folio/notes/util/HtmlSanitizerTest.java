@@ -0,0 +1,68 @@
+package org.folio.notes.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.folio.spring.testing.type.UnitTest;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.safety.Cleaner;
+import org.jsoup.safety.Safelist;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@UnitTest
+class HtmlSanitizerTest {
+
+  private static final Safelist SAFELIST = new Safelist()
+    .addTags("p", "strong", "a", "br")
+    .addAttributes(":all", "class")
+    .addAttributes("a", "href");
+  private static final Document.OutputSettings OUTPUT_SETTINGS = new Document.OutputSettings().prettyPrint(false);
+
+  private final HtmlSanitizer sanitizer = new HtmlSanitizer(SAFELIST);
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "plain text", "a > b", "non breaking", "line\nbreak", "carriage\r\nreturn", "null\0char",
+    "AT&T", "&copy; &amp; &lt;", "a < b", "<p>para</p>\n<p class=c>graph</p>", "<P CLASS='c'>upper</P>",
+    "<br/><br />", "<a href=\"x\" onclick=\"y()\">link</a>", "<script>alert(1)</script>text", "<!-- comment -->",
+    "<p>unclosed <strong>tags"
+  })
+  void shouldSanitizeSameAsJsoupClean(String content) {
+    var expected = Jsoup.clean(content, "", SAFELIST, OUTPUT_SETTINGS);
+
+    assertEquals(expected, sanitizer.sanitize(content));
+    assertEquals(expected, sanitizer.sanitizeWithText(content).html());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "a > b", "x >> y >", "\u00A0", "non\u00A0breaking\u00A0spaces", "h\u00E9llo w\u00F6rld \u00DF",
+    "\u65E5\u672C\u8A9E\u306E\u30E1\u30E2", "emoji \uD83D\uDE00 text", "lone \uD800 surrogate",
+    "bell\u0007char", "form\ffeed", "quotes \" and ' stay", "tab\tand\nnew line", " ", "\t\n  ",
+    " \u00A0 ", "\u2003\u3000"
+  })
+  void shouldEscapePlainTextSameAsCleaner(String content) {
+    var body = new Cleaner(SAFELIST).clean(Jsoup.parseBodyFragment(content, "")).outputSettings(OUTPUT_SETTINGS)
+      .body();
+
+    assertEquals(body.html(), sanitizer.sanitize(content));
+    assertEquals(body.html(), sanitizer.sanitizeWithText(content).html());
+  }
+
+  @Test
+  void shouldReturnPlainTextWithoutEscapedCharactersAsIs() {
+    var content = "plain text without markup";
+
+    assertSame(content, sanitizer.sanitize(content));
+  }
+
+  @Test
+  void shouldExtractTextOfSanitizedContent() {
+    var sanitized = sanitizer.sanitizeWithText("<p>first &amp; line</p>\n<p>second<script>x</script></p>");
+
+    assertEquals("first &amp; line second", sanitized.text());
+  }
+}